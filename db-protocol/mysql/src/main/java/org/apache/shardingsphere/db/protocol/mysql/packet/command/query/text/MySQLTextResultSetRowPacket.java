@@ -40,6 +40,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE_BYTES = {1};
+    
+    private static final byte[] FALSE_BYTES = {0};
+    
     private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     private final Collection<Object> data;
@@ -59,12 +63,14 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             } else {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
+                } else if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+                    payload.writeLongStringLenenc(((Number) each).longValue());
                 } else if (each instanceof Timestamp && 0 == ((Timestamp) each).getNanos()) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    payload.writeStringLenenc(getTimestampWithoutNanos((Timestamp) each));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeBytesLenenc((Boolean) each ? TRUE_BYTES : FALSE_BYTES);
                 } else if (each instanceof LocalDateTime) {
                     payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
                 } else {
@@ -73,4 +79,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             }
         }
     }
+    
+    private String getTimestampWithoutNanos(final Timestamp timestamp) {
+        String result = timestamp.toString();
+        int nanosIndex = result.lastIndexOf('.');
+        return -1 == nanosIndex ? result : result.substring(0, nanosIndex);
+    }
 }
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * MySQL payload operation for MySQL packet data types.
@@ -279,11 +281,48 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            writeIntLenenc(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
         byte[] valueBytes = value.getBytes(charset);
         writeIntLenenc(valueBytes.length);
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write lenenc string of integral number to byte buffers.
+     * 
+     * <p>Decimal digits are written to byte buffers directly without creating intermediate string.</p>
+     *
+     * @param value integral number
+     */
+    public void writeLongStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(Long.toString(value));
+            return;
+        }
+        long remaining = Math.abs(value);
+        int length = value < 0L ? 2 : 1;
+        for (long each = remaining / 10L; each > 0L; each /= 10L) {
+            length++;
+        }
+        byteBuf.writeByte(length);
+        byteBuf.ensureWritable(length);
+        int writerIndex = byteBuf.writerIndex();
+        int index = writerIndex + length;
+        do {
+            byteBuf.setByte(--index, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (remaining > 0L);
+        if (value < 0L) {
+            byteBuf.setByte(--index, '-');
+        }
+        byteBuf.writerIndex(writerIndex + length);
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
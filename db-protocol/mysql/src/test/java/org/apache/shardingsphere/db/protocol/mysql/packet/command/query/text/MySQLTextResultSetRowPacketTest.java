@@ -75,6 +75,18 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
     }
     
+    @Test
+    void assertWriteIntegralNumbersAndBooleans() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(1, 2L, (short) 3, (byte) 4, true, false));
+        actual.write(payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeLongStringLenenc(2L);
+        verify(payload).writeLongStringLenenc(3L);
+        verify(payload).writeLongStringLenenc(4L);
+        verify(payload).writeBytesLenenc(new byte[]{1});
+        verify(payload).writeBytesLenenc(new byte[]{0});
+    }
+    
     @Test
     void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
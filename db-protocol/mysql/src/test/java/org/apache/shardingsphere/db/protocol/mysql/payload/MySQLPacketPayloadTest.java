@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -207,6 +208,39 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithUTF8MultiBytes() {
+        ByteBuf buffer = Unpooled.buffer();
+        new MySQLPacketPayload(buffer, StandardCharsets.UTF_8).writeStringLenenc("数据");
+        assertThat(buffer.readUnsignedByte(), is((short) 6));
+        assertThat(buffer.toString(StandardCharsets.UTF_8), is("数据"));
+    }
+    
+    @Test
+    void assertWriteStringLenencWithOtherCharset() {
+        ByteBuf buffer = Unpooled.buffer();
+        new MySQLPacketPayload(buffer, StandardCharsets.ISO_8859_1).writeStringLenenc("value");
+        assertThat(buffer.readUnsignedByte(), is((short) 5));
+        assertThat(buffer.toString(StandardCharsets.ISO_8859_1), is("value"));
+    }
+    
+    @Test
+    void assertWriteLongStringLenenc() {
+        assertLongStringLenenc(0L);
+        assertLongStringLenenc(7L);
+        assertLongStringLenenc(10L);
+        assertLongStringLenenc(-123L);
+        assertLongStringLenenc(Long.MAX_VALUE);
+        assertLongStringLenenc(Long.MIN_VALUE);
+    }
+    
+    private void assertLongStringLenenc(final long value) {
+        ByteBuf buffer = Unpooled.buffer(1);
+        new MySQLPacketPayload(buffer, StandardCharsets.UTF_8).writeLongStringLenenc(value);
+        assertThat(buffer.readUnsignedByte(), is((short) Long.toString(value).length()));
+        assertThat(buffer.toString(StandardCharsets.UTF_8), is(Long.toString(value)));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
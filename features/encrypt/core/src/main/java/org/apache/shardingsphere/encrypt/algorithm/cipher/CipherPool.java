@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm.cipher;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Cipher pool.
+ *
+ * <p>Keeps at most {@code maxIdleSize} initialized ciphers for reuse, more ciphers are created on demand under contention and discarded after use.
+ * A cipher failed to finish is discarded too, because its state is undefined.</p>
+ */
+public final class CipherPool {
+    
+    private static final int DEFAULT_MAX_IDLE_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private final Supplier<Cipher> cipherFactory;
+    
+    private final BlockingQueue<Cipher> idleCiphers;
+    
+    public CipherPool(final Supplier<Cipher> cipherFactory) {
+        this(cipherFactory, DEFAULT_MAX_IDLE_SIZE);
+    }
+    
+    public CipherPool(final Supplier<Cipher> cipherFactory, final int maxIdleSize) {
+        this.cipherFactory = cipherFactory;
+        idleCiphers = new ArrayBlockingQueue<>(maxIdleSize);
+    }
+    
+    /**
+     * Encrypt or decrypt data with a pooled cipher.
+     *
+     * @param input input data
+     * @return output data
+     * @throws GeneralSecurityException general security exception
+     */
+    public byte[] doFinal(final byte[] input) throws GeneralSecurityException {
+        Cipher cipher = idleCiphers.poll();
+        if (null == cipher) {
+            cipher = cipherFactory.get();
+        }
+        byte[] result = cipher.doFinal(input);
+        idleCiphers.offer(cipher);
+        return result;
+    }
+}
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,6 +39,10 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<EncryptContext>> decryptContexts = new HashMap<>();
+    
+    private final Map<Integer, StandardEncryptAlgorithm<?, ?>> decryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -45,16 +51,26 @@ public final class EncryptMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
-        if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
+        Optional<EncryptContext> encryptContext = decryptContexts.computeIfAbsent(columnIndex, this::findDecryptContext);
+        if (!encryptContext.isPresent()) {
             return mergedResult.getValue(columnIndex, type);
         }
-        Optional<StandardEncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return null == cipherValue ? null : ((StandardEncryptAlgorithm) decryptors.get(columnIndex)).decrypt(cipherValue, encryptContext.get());
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<EncryptContext> findDecryptContext(final int columnIndex) {
+        Optional<EncryptContext> result = metaData.findEncryptContext(columnIndex);
+        if (!result.isPresent() || !metaData.isQueryWithCipherColumn(result.get().getTableName(), result.get().getColumnName())) {
+            return Optional.empty();
+        }
+        Optional<StandardEncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(result.get().getTableName(), result.get().getColumnName());
         if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        decryptors.put(columnIndex, encryptAlgorithm.get());
+        return result;
     }
     
     @Override
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm.cipher;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CipherPoolTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertDoFinalWithIdleCipherReused() throws GeneralSecurityException {
+        Supplier<Cipher> cipherFactory = mock(Supplier.class);
+        Cipher cipher = mock(Cipher.class);
+        when(cipherFactory.get()).thenReturn(cipher);
+        when(cipher.doFinal(new byte[]{1})).thenReturn(new byte[]{2});
+        CipherPool pool = new CipherPool(cipherFactory, 1);
+        assertThat(pool.doFinal(new byte[]{1}), is(new byte[]{2}));
+        assertThat(pool.doFinal(new byte[]{1}), is(new byte[]{2}));
+        verify(cipherFactory).get();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertDoFinalWithFailedCipherDiscarded() throws GeneralSecurityException {
+        Supplier<Cipher> cipherFactory = mock(Supplier.class);
+        Cipher cipher = mock(Cipher.class);
+        when(cipherFactory.get()).thenReturn(cipher);
+        when(cipher.doFinal(new byte[]{1})).thenThrow(BadPaddingException.class).thenReturn(new byte[]{2});
+        CipherPool pool = new CipherPool(cipherFactory, 1);
+        assertThrows(BadPaddingException.class, () -> pool.doFinal(new byte[]{1}));
+        assertThat(pool.doFinal(new byte[]{1}), is(new byte[]{2}));
+        verify(cipherFactory, times(2)).get();
+    }
+}
@@ -27,6 +27,8 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.GeneralSecurityException;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -69,4 +71,18 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
     }
+    
+    @Test
+    void assertDecryptAfterDecryptInvalidValue() {
+        assertThrows(GeneralSecurityException.class, () -> encryptAlgorithm.decrypt("dGVzdA==", mock(EncryptContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)), is("test"));
+    }
+    
+    @Test
+    void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("dSpPiyENQGDUXMKFMJPGWA=="));
+            assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)), is("test"));
+        }
+    }
 }
@@ -88,6 +88,16 @@ class SM4EncryptAlgorithmTest {
         assertThat(algorithm.decrypt("dca2127b57ba8cac36a0914e0208dc11", mock(EncryptContext.class)).toString(), is("test"));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertEncryptAndDecryptWithCBCModeRepeatedly() {
+        StandardEncryptAlgorithm<Object, String> algorithm = (StandardEncryptAlgorithm<Object, String>) TypedSPILoader.getService(EncryptAlgorithm.class, "SM4", createCBCProperties());
+        for (int i = 0; i < 3; i++) {
+            assertThat(algorithm.encrypt("test", mock(EncryptContext.class)), is("dca2127b57ba8cac36a0914e0208dc11"));
+            assertThat(algorithm.decrypt("dca2127b57ba8cac36a0914e0208dc11", mock(EncryptContext.class)).toString(), is("test"));
+        }
+    }
+    
     private Properties createCBCProperties() {
         return PropertiesBuilder.build(
                 new Property("sm4-key", "f201326119911788cFd30575b81059ac"), new Property("sm4-iv", "e166c3391294E69cc4c620f594fe00d7"),
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Setter;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least latency read query load-balance algorithm.
+ *
+ * <p>Picks two read data sources randomly and selects the one with lower load score,
+ * which is calculated by average execution latency and in flight execution count of the data source.</p>
+ */
+public final class LeastLatencyReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm, DatabaseNameAware {
+    
+    @Setter
+    private String databaseName;
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = readDataSourceNames.get(firstIndex);
+        String second = readDataSourceNames.get(secondIndex);
+        DataSourceLatencyStatisticsRegistry registry = DataSourceLatencyStatisticsRegistry.getInstance();
+        return registry.register(databaseName, first).getLoadScore() <= registry.register(databaseName, second).getLoadScore() ? first : second;
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_LATENCY";
+    }
+}
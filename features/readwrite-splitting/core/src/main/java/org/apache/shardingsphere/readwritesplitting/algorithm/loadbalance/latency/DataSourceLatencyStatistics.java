@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency statistics of data source.
+ *
+ * <p>Execution latency is smoothed by exponentially weighted moving average with weight 1/8 of new sample.</p>
+ */
+public final class DataSourceLatencyStatistics {
+    
+    private static final int EWMA_WEIGHT_SHIFT = 3;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+    
+    /**
+     * Record execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished successfully.
+     *
+     * @param latencyNanos execution latency in nanoseconds
+     */
+    public void finishSuccess(final long latencyNanos) {
+        inFlightCount.decrementAndGet();
+        averageLatencyNanos.accumulateAndGet(latencyNanos, DataSourceLatencyStatistics::calculateAverage);
+    }
+    
+    /**
+     * Record execution finished with failure, failure is counted as twice of average latency at least, so that failed data source is selected less.
+     *
+     * @param latencyNanos execution latency in nanoseconds
+     */
+    public void finishFailure(final long latencyNanos) {
+        inFlightCount.decrementAndGet();
+        averageLatencyNanos.accumulateAndGet(latencyNanos, (average, latency) -> calculateAverage(average, Math.max(latency, average << 1)));
+    }
+    
+    private static long calculateAverage(final long average, final long latency) {
+        return 0L == average ? latency : average + ((latency - average) >> EWMA_WEIGHT_SHIFT);
+    }
+    
+    /**
+     * Get in flight execution count.
+     *
+     * @return in flight execution count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get average latency in nanoseconds.
+     *
+     * @return average latency in nanoseconds, 0 if no execution finished
+     */
+    public long getAverageLatencyNanos() {
+        return averageLatencyNanos.get();
+    }
+    
+    /**
+     * Get load score, lower score means lower expected latency.
+     *
+     * @return load score
+     */
+    public long getLoadScore() {
+        return (averageLatencyNanos.get() + 1L) * (Math.max(inFlightCount.get(), 0) + 1L);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source latency statistics registry.
+ *
+ * <p>Statistics are kept per data source of logic database, only data sources registered by latency aware load balance algorithms are tracked, other executions are ignored.
+ * Statistics of a database are unregistered when its rules or storage units are torn down.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceLatencyStatisticsRegistry {
+    
+    private static final DataSourceLatencyStatisticsRegistry INSTANCE = new DataSourceLatencyStatisticsRegistry();
+    
+    private final Map<String, Map<String, DataSourceLatencyStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static DataSourceLatencyStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register data source and get its statistics.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return latency statistics of data source
+     */
+    public DataSourceLatencyStatistics register(final String databaseName, final String dataSourceName) {
+        Map<String, DataSourceLatencyStatistics> databaseStatistics = statistics.computeIfAbsent(databaseName.toLowerCase(), key -> new ConcurrentHashMap<>());
+        DataSourceLatencyStatistics result = databaseStatistics.get(dataSourceName);
+        return null == result ? databaseStatistics.computeIfAbsent(dataSourceName, key -> new DataSourceLatencyStatistics()) : result;
+    }
+    
+    /**
+     * Find latency statistics of data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return latency statistics of data source
+     */
+    public Optional<DataSourceLatencyStatistics> find(final String databaseName, final String dataSourceName) {
+        return Optional.ofNullable(statistics.get(databaseName.toLowerCase())).map(optional -> optional.get(dataSourceName));
+    }
+    
+    /**
+     * Unregister latency statistics of all data sources of database.
+     *
+     * @param databaseName database name
+     */
+    public void unregister(final String databaseName) {
+        statistics.remove(databaseName.toLowerCase());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatisticsRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LeastLatencyReadQueryLoadBalanceAlgorithmTest {
+    
+    @AfterEach
+    void tearDown() {
+        DataSourceLatencyStatisticsRegistry.getInstance().unregister("foo_db");
+    }
+    
+    @Test
+    void assertGetDataSourceWithSingleReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LEAST_LATENCY", new Properties());
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_single_read_ds")), is("test_single_read_ds"));
+    }
+    
+    @Test
+    void assertGetDataSourceWithSlowReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        DataSourceLatencyStatistics fastStatistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_fast_read_ds");
+        DataSourceLatencyStatistics slowStatistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_slow_read_ds");
+        fastStatistics.start();
+        fastStatistics.finishSuccess(1000L);
+        slowStatistics.start();
+        slowStatistics.finishSuccess(1000000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_slow_read_ds", "test_fast_read_ds")), is("test_fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithBusyReadDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        DataSourceLatencyStatistics idleStatistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_idle_read_ds");
+        DataSourceLatencyStatistics busyStatistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_busy_read_ds");
+        idleStatistics.start();
+        idleStatistics.finishSuccess(1000L);
+        busyStatistics.start();
+        busyStatistics.finishSuccess(1000L);
+        busyStatistics.start();
+        busyStatistics.start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_busy_read_ds", "test_idle_read_ds")), is("test_idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithSameDataSourceNameOfOtherDatabase() {
+        DataSourceLatencyStatistics otherDatabaseStatistics = DataSourceLatencyStatisticsRegistry.getInstance().register("bar_db", "test_fast_read_ds");
+        otherDatabaseStatistics.start();
+        otherDatabaseStatistics.finishSuccess(1000000L);
+        DataSourceLatencyStatistics slowStatistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_slow_read_ds");
+        slowStatistics.start();
+        slowStatistics.finishSuccess(1000L);
+        assertThat(createLoadBalanceAlgorithm().getDataSource("ds", "test_write_ds", Arrays.asList("test_slow_read_ds", "test_fast_read_ds")), is("test_fast_read_ds"));
+        DataSourceLatencyStatisticsRegistry.getInstance().unregister("bar_db");
+    }
+    
+    private ReadQueryLoadBalanceAlgorithm createLoadBalanceAlgorithm() {
+        ReadQueryLoadBalanceAlgorithm result = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LEAST_LATENCY", new Properties());
+        ((DatabaseNameAware) result).setDatabaseName("foo_db");
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecuteDatabaseContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DataSourceLatencyStatisticsSQLExecutionHookTest {
+    
+    @AfterEach
+    void tearDown() {
+        JDBCExecuteDatabaseContext.remove();
+        DataSourceLatencyStatisticsRegistry.getInstance().unregister("foo_db");
+    }
+    
+    @Test
+    void assertExecuteWithRegisteredDataSource() {
+        JDBCExecuteDatabaseContext.set("foo_db");
+        DataSourceLatencyStatistics statistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_hook_read_ds");
+        DataSourceLatencyStatisticsSQLExecutionHook hook = new DataSourceLatencyStatisticsSQLExecutionHook();
+        hook.start("test_hook_read_ds", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true);
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getAverageLatencyNanos() > 0L);
+        hook.start("test_hook_read_ds", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true);
+        hook.finishFailure(new SQLException("test"));
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertExecuteWithDataSourceOfOtherDatabase() {
+        JDBCExecuteDatabaseContext.set("bar_db");
+        DataSourceLatencyStatistics statistics = DataSourceLatencyStatisticsRegistry.getInstance().register("foo_db", "test_hook_read_ds");
+        DataSourceLatencyStatisticsSQLExecutionHook hook = new DataSourceLatencyStatisticsSQLExecutionHook();
+        hook.start("test_hook_read_ds", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true);
+        assertThat(statistics.getInFlightCount(), is(0));
+        hook.finishSuccess();
+        assertThat(statistics.getAverageLatencyNanos(), is(0L));
+    }
+    
+    @Test
+    void assertExecuteWithUnregisteredDataSource() {
+        JDBCExecuteDatabaseContext.set("foo_db");
+        DataSourceLatencyStatisticsSQLExecutionHook hook = new DataSourceLatencyStatisticsSQLExecutionHook();
+        hook.start("test_unregistered_ds", "SELECT 1", Collections.emptyList(), mock(DataSourceMetaData.class), true);
+        hook.finishSuccess();
+        assertFalse(DataSourceLatencyStatisticsRegistry.getInstance().find("foo_db", "test_unregistered_ds").isPresent());
+    }
+}
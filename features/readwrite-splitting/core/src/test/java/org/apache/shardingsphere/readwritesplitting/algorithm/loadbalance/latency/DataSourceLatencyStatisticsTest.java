@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DataSourceLatencyStatisticsTest {
+    
+    @Test
+    void assertFinishSuccess() {
+        DataSourceLatencyStatistics actual = new DataSourceLatencyStatistics();
+        actual.start();
+        assertThat(actual.getInFlightCount(), is(1));
+        actual.finishSuccess(800L);
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getAverageLatencyNanos(), is(800L));
+        actual.start();
+        actual.finishSuccess(1600L);
+        assertThat(actual.getAverageLatencyNanos(), is(900L));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        DataSourceLatencyStatistics actual = new DataSourceLatencyStatistics();
+        actual.start();
+        actual.finishSuccess(800L);
+        actual.start();
+        actual.finishFailure(10L);
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getAverageLatencyNanos(), is(900L));
+    }
+    
+    @Test
+    void assertGetLoadScore() {
+        DataSourceLatencyStatistics actual = new DataSourceLatencyStatistics();
+        assertThat(actual.getLoadScore(), is(1L));
+        actual.start();
+        actual.finishSuccess(99L);
+        actual.start();
+        assertThat(actual.getLoadScore(), is(200L));
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabas
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatisticsRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.StaticReadwriteSplittingStrategyConfiguration;
@@ -40,6 +41,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -106,4 +108,16 @@ class ReadwriteSplittingRuleTest {
                 new DataSourceRoleInfo("read_ds_0", DataSourceRole.MEMBER), new DataSourceRoleInfo("read_ds_1", DataSourceRole.MEMBER)));
         assertThat(actual, is(expected));
     }
+    
+    @Test
+    void assertGetDataSourceWithLeastLatencyLoadBalancer() {
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "readwrite", new StaticReadwriteSplittingStrategyConfiguration("write_ds", Arrays.asList("read_ds_0", "read_ds_1")), null, "least_latency");
+        ReadwriteSplittingRule rule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(config),
+                Collections.singletonMap("least_latency", new AlgorithmConfiguration("LEAST_LATENCY", new Properties()))), Collections.emptyList(), mock(InstanceContext.class));
+        rule.getSingleDataSourceRule().getLoadBalancer().getDataSource("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"));
+        assertTrue(DataSourceLatencyStatisticsRegistry.getInstance().find("logic_db", "read_ds_0").isPresent());
+        rule.closeStaleResource();
+        assertFalse(DataSourceLatencyStatisticsRegistry.getInstance().find("logic_db", "read_ds_0").isPresent());
+    }
 }
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.sharding.spi;
 
 import org.apache.shardingsphere.infra.util.spi.type.typed.algorithm.ShardingSphereAlgorithm;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * Key generate algorithm.
  */
@@ -31,6 +34,20 @@ public interface KeyGenerateAlgorithm extends ShardingSphereAlgorithm {
      */
     Comparable<?> generateKey();
     
+    /**
+     * Generate keys.
+     *
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    default Collection<? extends Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
+    
     /**
      * Judge whether support auto increment or not.
      * 
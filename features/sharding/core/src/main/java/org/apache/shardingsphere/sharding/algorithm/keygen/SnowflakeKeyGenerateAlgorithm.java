@@ -26,8 +26,11 @@ import org.apache.shardingsphere.sharding.exception.algorithm.keygen.KeyGenerate
 import org.apache.shardingsphere.sharding.exception.algorithm.keygen.SnowflakeClockMoveBackException;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -39,6 +42,8 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last milliseconds and sequence are packed into one word and updated by CAS, so key generation is lock free.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -75,9 +80,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private volatile int sequenceOffset = -1;
     
-    private volatile long sequence;
-    
-    private volatile long lastMilliseconds;
+    private final AtomicLong lastMillisecondsAndSequence = new AtomicLong();
     
     private volatile InstanceContext instanceContext;
     
@@ -117,25 +120,63 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Long generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Long generateKey() {
+        long reserved = reserve(1);
+        return composeKey(reserved >>> SEQUENCE_BITS, getWorkerId(), reserved & SEQUENCE_MASK);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final int count) {
+        Collection<Long> result = new ArrayList<>(count);
+        int workerId = getWorkerId();
+        while (result.size() < count) {
+            long reserved = reserve(count - result.size());
+            long milliseconds = reserved >>> SEQUENCE_BITS;
+            long firstSequence = reserved & SEQUENCE_MASK;
+            long lastSequence = getLastReservedSequence(firstSequence, count - result.size());
+            for (long each = firstSequence; each <= lastSequence; each++) {
+                result.add(composeKey(milliseconds, workerId, each));
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long composeKey(final long milliseconds, final int workerId, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long reserve(final int count) {
+        while (true) {
+            long last = lastMillisecondsAndSequence.get();
+            long lastMilliseconds = last >>> SEQUENCE_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            int nextSequenceOffset = sequenceOffset;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                if (0L == (firstSequence = ((last & SEQUENCE_MASK) + 1) & SEQUENCE_MASK)) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                nextSequenceOffset = vibrateSequenceOffset(nextSequenceOffset);
+                firstSequence = nextSequenceOffset;
+            }
+            long result = (currentMilliseconds << SEQUENCE_BITS) | firstSequence;
+            if (lastMillisecondsAndSequence.compareAndSet(last, (currentMilliseconds << SEQUENCE_BITS) | getLastReservedSequence(firstSequence, count))) {
+                sequenceOffset = nextSequenceOffset;
+                return result;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getLastReservedSequence(final long firstSequence, final int count) {
+        return Math.min(firstSequence + count - 1L, SEQUENCE_MASK);
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -153,9 +194,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    @SuppressWarnings("NonAtomicOperationOnVolatileField")
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset(final int sequenceOffset) {
+        return sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
     }
     
     private int getWorkerId() {
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
@@ -41,12 +44,17 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Interval sharding algorithm.
@@ -65,6 +73,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private static final String INTERVAL_UNIT_KEY = "datetime-interval-unit";
     
+    private static final int MAX_INDEXED_INTERVAL_COUNT = 10000;
+    
     private DateTimeFormatter dateTimeFormatter;
     
     private int dateTimePatternLength;
@@ -79,6 +89,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private IntervalMatcher<?> intervalMatcher;
+    
     @Override
     public void init(final Properties props) {
         String dateTimePattern = getDateTimePattern(props);
@@ -89,6 +101,7 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        intervalMatcher = createIntervalMatcher();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -141,163 +154,59 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     }
     
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
-        TemporalAccessor calculateTime = dateTimeLower;
-        if (!calculateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                return doShardingInLocalDate(availableTargetNames, range, calculateTime);
-            }
-            if (calculateTime.isSupported(ChronoField.YEAR) && calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInYearMonth(availableTargetNames, range, calculateTime);
-            }
-            if (calculateTime.isSupported(ChronoField.YEAR)) {
-                return doShardingInYear(availableTargetNames, range, calculateTime);
-            }
-            if (calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInMonth(availableTargetNames, range, calculateTime);
-            }
-        }
-        if (!calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            return doShardingInLocalTime(availableTargetNames, range, calculateTime);
-        }
-        return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
+        return intervalMatcher.getMatchedTargetNames(availableTargetNames, range);
     }
     
-    private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
-        LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
-        LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private IntervalMatcher<?> createIntervalMatcher() {
+        if (!dateTimeLower.isSupported(ChronoField.NANO_OF_DAY)) {
+            if (dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+                LocalDate upper = dateTimeUpper.query(TemporalQueries.localDate());
+                return createIntervalMatcher(dateTimeLower.query(TemporalQueries.localDate()), upper, each -> !each.isAfter(upper), each -> each.plus(stepAmount, stepUnit), this::parseLocalDate);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
-        LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
-        LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (dateTimeLower.isSupported(ChronoField.YEAR) && dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                YearMonth upper = dateTimeUpper.query(YearMonth::from);
+                return createIntervalMatcher(dateTimeLower.query(YearMonth::from), upper, each -> !each.isAfter(upper), each -> each.plus(stepAmount, stepUnit), this::parseYearMonth);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
-        LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
-        LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (dateTimeLower.isSupported(ChronoField.YEAR)) {
+                Year upper = dateTimeUpper.query(Year::from);
+                return createIntervalMatcher(dateTimeLower.query(Year::from), upper, each -> !each.isAfter(upper), each -> each.plus(stepAmount, stepUnit), this::parseYear);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
-        Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
-        Year calculateTimeAsView = calculateTime.query(Year::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                Month upper = dateTimeUpper.query(Month::from);
+                return createIntervalMatcher(dateTimeLower.query(Month::from), upper,
+                        each -> each.getValue() <= upper.getValue() && each.getValue() + stepAmount <= Month.DECEMBER.getValue(), each -> each.plus(stepAmount), this::parseMonth);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
-    }
-    
-    private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
-        Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
-        Month calculateTimeAsView = calculateTime.query(Month::from);
-        while (!(calculateTimeAsView.getValue() > dateTimeUpperAsMonth.getValue()) && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
+        if (!dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+            LocalTime upper = dateTimeUpper.query(TemporalQueries.localTime());
+            return createIntervalMatcher(dateTimeLower.query(TemporalQueries.localTime()), upper, each -> !each.isAfter(upper), each -> each.plus(stepAmount, stepUnit), this::parseLocalTime);
         }
-        return result;
+        LocalDateTime upper = LocalDateTime.from(dateTimeUpper);
+        return createIntervalMatcher(LocalDateTime.from(dateTimeLower), upper, each -> !each.isAfter(upper), each -> each.plus(stepAmount, stepUnit), this::parseLocalDateTime);
     }
     
-    private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
-        YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
-        YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private <T extends Comparable<? super T>> IntervalMatcher<T> createIntervalMatcher(final T lower, final T upper, final Predicate<T> hasNextInterval,
+                                                                                       final UnaryOperator<T> nextIntervalLower, final Function<Comparable<?>, T> parser) {
+        List<T> intervalLowers = new ArrayList<>();
+        List<Range<T>> intervals = new ArrayList<>();
+        List<String> suffixes = new ArrayList<>();
+        T each = lower;
+        while (hasNextInterval.test(each)) {
+            if (intervalLowers.size() >= MAX_INDEXED_INTERVAL_COUNT) {
+                return new SteppingIntervalMatcher<>(lower, upper, parser, hasNextInterval, nextIntervalLower, tableSuffixPattern);
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
+            T next = nextIntervalLower.apply(each);
+            intervalLowers.add(each);
+            suffixes.add(tableSuffixPattern.format((TemporalAccessor) each));
+            if (each.compareTo(next) >= 0) {
+                intervals.add(Range.atLeast(each));
+                break;
+            }
+            intervals.add(Range.closedOpen(each, next));
+            each = next;
         }
-        return result;
-    }
-    
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<LocalDate> calculateRange, final Range<Comparable<?>> range, final LocalDate dateTimeLower, final LocalDate dateTimeUpper) {
-        LocalDate lower = range.hasLowerBound() ? parseLocalDate(range.lowerEndpoint()) : dateTimeLower;
-        LocalDate upper = range.hasUpperBound() ? parseLocalDate(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDate> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<LocalTime> calculateRange, final Range<Comparable<?>> range, final LocalTime dateTimeLower, final LocalTime dateTimeUpper) {
-        LocalTime lower = range.hasLowerBound() ? parseLocalTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalTime upper = range.hasUpperBound() ? parseLocalTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<Year> calculateRange, final Range<Comparable<?>> range, final Year dateTimeLower, final Year dateTimeUpper) {
-        Year lower = range.hasLowerBound() ? parseYear(range.lowerEndpoint()) : dateTimeLower;
-        Year upper = range.hasUpperBound() ? parseYear(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Year> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<Month> calculateRange, final Range<Comparable<?>> range, final Month dateTimeLower, final Month dateTimeUpper) {
-        Month lower = range.hasLowerBound() ? parseMonth(range.lowerEndpoint()) : dateTimeLower;
-        Month upper = range.hasUpperBound() ? parseMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Month> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<YearMonth> calculateRange, final Range<Comparable<?>> range, final YearMonth dateTimeLower, final YearMonth dateTimeUpper) {
-        YearMonth lower = range.hasLowerBound() ? parseYearMonth(range.lowerEndpoint()) : dateTimeLower;
-        YearMonth upper = range.hasUpperBound() ? parseYearMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<YearMonth> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+        int suffixLength = suffixes.stream().mapToInt(String::length).distinct().count() == 1L ? suffixes.get(0).length() : -1;
+        return new IntervalIndex<>(lower, upper, parser, suffixLength, intervalLowers, intervals, suffixes);
     }
     
     private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
@@ -340,36 +249,143 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
-        if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+    @Override
+    public String getType() {
+        return "INTERVAL";
+    }
+    
+    /**
+     * Interval matcher.
+     *
+     * @param <T> type of interval bound
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+    private abstract static class IntervalMatcher<T extends Comparable<? super T>> {
+        
+        @Getter(AccessLevel.PROTECTED)
+        private final T dateTimeLower;
+        
+        private final T dateTimeUpper;
+        
+        private final Function<Comparable<?>, T> parser;
+        
+        private final int suffixLength;
+        
+        Collection<String> getMatchedTargetNames(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+            T lower = range.hasLowerBound() ? parser.apply(range.lowerEndpoint()) : dateTimeLower;
+            T upper = range.hasUpperBound() ? parser.apply(range.upperEndpoint()) : dateTimeUpper;
+            BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+            BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+            Set<String> matchedSuffixes = getMatchedSuffixes(Range.range(lower, lowerBoundType, upper, upperBoundType));
+            if (matchedSuffixes.isEmpty()) {
+                return Collections.emptySet();
             }
-            if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            Set<String> result = new HashSet<>();
+            for (String each : availableTargetNames) {
+                if (isMatched(each, matchedSuffixes)) {
+                    result.add(each);
+                }
             }
-            if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            return result;
+        }
+        
+        private boolean isMatched(final String targetName, final Set<String> matchedSuffixes) {
+            if (suffixLength > 0) {
+                return targetName.length() >= suffixLength && matchedSuffixes.contains(targetName.substring(targetName.length() - suffixLength));
             }
-            if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+            return matchedSuffixes.stream().anyMatch(targetName::endsWith);
+        }
+        
+        protected final boolean hasIntersection(final Range<T> interval, final Range<T> dateTimeRange) {
+            return interval.isConnected(dateTimeRange) && !interval.intersection(dateTimeRange).isEmpty();
+        }
+        
+        protected abstract Set<String> getMatchedSuffixes(Range<T> dateTimeRange);
+    }
+    
+    /**
+     * Interval index.
+     *
+     * <p>Interval lower bounds are sorted and continuous, so matched intervals of a range are located by binary search instead of stepping from datetime lower.</p>
+     *
+     * @param <T> type of interval bound
+     */
+    private static final class IntervalIndex<T extends Comparable<? super T>> extends IntervalMatcher<T> {
+        
+        private final List<T> intervalLowers;
+        
+        private final List<Range<T>> intervals;
+        
+        private final List<String> suffixes;
+        
+        IntervalIndex(final T dateTimeLower, final T dateTimeUpper, final Function<Comparable<?>, T> parser, final int suffixLength,
+                      final List<T> intervalLowers, final List<Range<T>> intervals, final List<String> suffixes) {
+            super(dateTimeLower, dateTimeUpper, parser, suffixLength);
+            this.intervalLowers = intervalLowers;
+            this.intervals = intervals;
+            this.suffixes = suffixes;
+        }
+        
+        @Override
+        protected Set<String> getMatchedSuffixes(final Range<T> dateTimeRange) {
+            if (intervalLowers.isEmpty()) {
+                return Collections.emptySet();
+            }
+            Set<String> result = new HashSet<>();
+            for (int i = findFirstCandidateIndex(dateTimeRange.lowerEndpoint()); i < intervalLowers.size() && intervalLowers.get(i).compareTo(dateTimeRange.upperEndpoint()) <= 0; i++) {
+                if (hasIntersection(intervals.get(i), dateTimeRange)) {
+                    result.add(suffixes.get(i));
+                }
             }
+            return result;
         }
-        if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        
+        private int findFirstCandidateIndex(final T lower) {
+            int index = Collections.binarySearch(intervalLowers, lower);
+            return index >= 0 ? index : Math.max(0, -index - 2);
         }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
     }
     
-    @Override
-    public String getType() {
-        return "INTERVAL";
+    /**
+     * Stepping interval matcher.
+     *
+     * <p>Used when there are too many intervals to be indexed, such as second or minute intervals over years.
+     * Intervals are stepped from datetime lower on every sharding and stepping stops once interval lower is beyond the range.</p>
+     *
+     * @param <T> type of interval bound
+     */
+    private static final class SteppingIntervalMatcher<T extends Comparable<? super T>> extends IntervalMatcher<T> {
+        
+        private final Predicate<T> hasNextInterval;
+        
+        private final UnaryOperator<T> nextIntervalLower;
+        
+        private final DateTimeFormatter tableSuffixPattern;
+        
+        SteppingIntervalMatcher(final T dateTimeLower, final T dateTimeUpper, final Function<Comparable<?>, T> parser,
+                                final Predicate<T> hasNextInterval, final UnaryOperator<T> nextIntervalLower, final DateTimeFormatter tableSuffixPattern) {
+            super(dateTimeLower, dateTimeUpper, parser, -1);
+            this.hasNextInterval = hasNextInterval;
+            this.nextIntervalLower = nextIntervalLower;
+            this.tableSuffixPattern = tableSuffixPattern;
+        }
+        
+        @Override
+        protected Set<String> getMatchedSuffixes(final Range<T> dateTimeRange) {
+            Set<String> result = new HashSet<>();
+            T each = getDateTimeLower();
+            while (hasNextInterval.test(each) && each.compareTo(dateTimeRange.upperEndpoint()) <= 0) {
+                T next = nextIntervalLower.apply(each);
+                boolean isLastInterval = each.compareTo(next) >= 0;
+                if (hasIntersection(isLastInterval ? Range.atLeast(each) : Range.closedOpen(each, next), dateTimeRange)) {
+                    result.add(tableSuffixPattern.format((TemporalAccessor) each));
+                }
+                if (isLastInterval) {
+                    break;
+                }
+                each = next;
+            }
+            return result;
+        }
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline sharding expression.
+ *
+ * <p>Recognizes the common {@code prefix${column % n}suffix} shapes of inline sharding expressions and evaluates them in pure Java,
+ * supported shapes are {@code column % n}, {@code column.hashCode() % n}, {@code (column % n).abs()} and {@code Math.abs(column % n)}.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineShardingExpression {
+    
+    private static final String MODULO_REGEX = "([A-Za-z_][A-Za-z0-9_]*)(\\.hashCode\\(\\))?\\s*%\\s*([1-9][0-9]{0,8})";
+    
+    private static final Pattern EXPRESSION_PATTERN = Pattern.compile(
+            "([A-Za-z0-9_.\\-]*)\\$\\{\\s*(?:" + MODULO_REGEX + "|\\(\\s*" + MODULO_REGEX + "\\s*\\)\\.abs\\(\\)|Math\\.abs\\(\\s*" + MODULO_REGEX + "\\s*\\))\\s*}([A-Za-z0-9_.\\-]*)");
+    
+    private final String prefix;
+    
+    private final String columnName;
+    
+    private final boolean hashCode;
+    
+    private final int divisor;
+    
+    private final boolean absolute;
+    
+    private final String suffix;
+    
+    /**
+     * Compile inline sharding expression.
+     *
+     * @param expression inline sharding expression with {@code $} placeholder
+     * @return compiled inline sharding expression, empty if expression shape is not supported
+     */
+    public static Optional<CompiledInlineShardingExpression> compile(final String expression) {
+        Matcher matcher = EXPRESSION_PATTERN.matcher(expression);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        for (int groupIndex = 2; groupIndex <= 8; groupIndex += 3) {
+            if (null != matcher.group(groupIndex)) {
+                return Optional.of(new CompiledInlineShardingExpression(matcher.group(1), matcher.group(groupIndex), null != matcher.group(groupIndex + 1),
+                        Integer.parseInt(matcher.group(groupIndex + 2)), groupIndex > 2, matcher.group(11)));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Evaluate sharding target name.
+     *
+     * @param columnName sharding column name
+     * @param value sharding value
+     * @return sharding target name, empty if column or value type can not be evaluated without groovy
+     */
+    public Optional<String> evaluate(final String columnName, final Comparable<?> value) {
+        if (!this.columnName.equals(columnName) || null == value) {
+            return Optional.empty();
+        }
+        long operand;
+        if (hashCode) {
+            operand = value.hashCode();
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            operand = ((Number) value).longValue();
+        } else {
+            return Optional.empty();
+        }
+        long remainder = operand % divisor;
+        return Optional.of(prefix + (absolute ? Math.abs(remainder) : remainder) + suffix);
+    }
+}
@@ -46,10 +46,16 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private CompiledInlineShardingExpression compiledExpression;
+    
+    private Closure<?> closurePrototype;
+    
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
         allowRangeQuery = isAllowRangeQuery(props);
+        compiledExpression = CompiledInlineShardingExpression.compile(algorithmExpression).orElse(null);
+        closurePrototype = new InlineExpressionParser(algorithmExpression).evaluateClosure();
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -65,8 +71,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
         Comparable<?> value = shardingValue.getValue();
+        if (null != compiledExpression) {
+            Optional<String> result = compiledExpression.evaluate(shardingValue.getColumnName(), value);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        Closure<?> closure = createClosure();
         closure.setProperty(shardingValue.getColumnName(), value);
         return getTargetShardingNode(closure, shardingValue.getColumnName());
     }
@@ -79,7 +91,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     }
     
     private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        Closure<?> result = closurePrototype.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         return result;
     }
@@ -30,13 +30,14 @@ public final class AggregationUnitFactory {
     
     /**
      * Create aggregation unit instance.
-     * 
+     *
      * @param type aggregation function type
      * @param isDistinct is distinct
+     * @param distinctCountExactLimit max distinct values count which are counted exactly for distinct count, less than or equal to 0 means no limitation
      * @return aggregation unit instance
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
-    public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final int distinctCountExactLimit) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -45,7 +46,7 @@ public final class AggregationUnitFactory {
             case SUM:
                 return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? new DistinctCountAggregationUnit(distinctCountExactLimit) : new AccumulationAggregationUnit();
             case AVG:
                 return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
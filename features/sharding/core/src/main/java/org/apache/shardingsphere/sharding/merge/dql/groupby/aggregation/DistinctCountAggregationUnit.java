@@ -17,30 +17,53 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 
 /**
  * Distinct count aggregation unit.
+ *
+ * <p>Counts exactly until the number of distinct values exceeds exact limit, then switches to a {@link HyperLogLog} sketch of its own,
+ * so every group beyond exact limit takes 16KB instead of all its distinct values. Exact limit less than or equal to 0 means no limitation.
+ * Integral numbers are normalized to long on both paths, so an int and a long of the same value are counted once.</p>
  */
-@RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    private final int exactLimit;
+    
+    private Collection<Comparable<?>> values = new HashSet<>();
+    
+    private HyperLogLog sketch;
+    
+    public DistinctCountAggregationUnit(final int exactLimit) {
+        this.exactLimit = exactLimit;
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        this.values.add(values.get(0));
+        Comparable<?> value = normalize(values.get(0));
+        if (null != sketch) {
+            sketch.offer(value);
+            return;
+        }
+        this.values.add(value);
+        if (exactLimit > 0 && this.values.size() > exactLimit) {
+            sketch = new HyperLogLog();
+            this.values.forEach(sketch::offer);
+            this.values = null;
+        }
+    }
+    
+    private Comparable<?> normalize(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Short || value instanceof Byte ? (Comparable<?>) ((Number) value).longValue() : value;
     }
     
     @Override
     public Comparable<?> getResult() {
-        return values.size();
+        return null == sketch ? (long) values.size() : sketch.cardinality();
     }
 }
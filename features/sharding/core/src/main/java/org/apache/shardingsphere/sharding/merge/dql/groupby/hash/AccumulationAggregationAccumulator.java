@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Accumulation aggregation accumulator, for {@code COUNT} and {@code SUM}.
+ */
+@RequiredArgsConstructor
+public final class AccumulationAggregationAccumulator implements AggregationAccumulator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private final NumericAccumulation accumulation = new NumericAccumulation();
+    
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Comparable<?> value = AggregationValueUtils.getAggregationValue(queryResult, aggregationProjection);
+        if (null != value) {
+            accumulation.add(groupIndex, value);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return accumulation.getResult(groupIndex);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Aggregation accumulator, which keeps aggregation states of all groups for one aggregation projection.
+ */
+public interface AggregationAccumulator {
+    
+    /**
+     * Merge aggregation value of current row into group.
+     *
+     * @param groupIndex group index
+     * @param queryResult query result positioned at current row
+     * @throws SQLException SQL exception
+     */
+    void merge(int groupIndex, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Get aggregation result of group.
+     *
+     * @param groupIndex group index
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int groupIndex);
+}
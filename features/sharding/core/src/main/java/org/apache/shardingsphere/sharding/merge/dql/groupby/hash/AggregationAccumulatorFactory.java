@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+
+import java.util.List;
+
+/**
+ * Aggregation accumulator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregationAccumulatorFactory {
+    
+    /**
+     * Create aggregation accumulator instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param distinctCountExactLimit max distinct values count which are counted exactly for distinct count, less than or equal to 0 means no limitation
+     * @return aggregation accumulator instance
+     */
+    public static AggregationAccumulator create(final AggregationProjection aggregationProjection, final int distinctCountExactLimit) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return new AggregationUnitAccumulator(aggregationProjection, distinctCountExactLimit);
+        }
+        List<AggregationProjection> derivedProjections = aggregationProjection.getDerivedAggregationProjections();
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return derivedProjections.isEmpty()
+                        ? new ComparableAggregationAccumulator(aggregationProjection, false)
+                        : new AggregationUnitAccumulator(aggregationProjection, distinctCountExactLimit);
+            case MIN:
+                return derivedProjections.isEmpty()
+                        ? new ComparableAggregationAccumulator(aggregationProjection, true)
+                        : new AggregationUnitAccumulator(aggregationProjection, distinctCountExactLimit);
+            case SUM:
+            case COUNT:
+                return derivedProjections.isEmpty()
+                        ? new AccumulationAggregationAccumulator(aggregationProjection)
+                        : new AggregationUnitAccumulator(aggregationProjection, distinctCountExactLimit);
+            case AVG:
+                return 2 == derivedProjections.size()
+                        ? new AverageAggregationAccumulator(derivedProjections.get(0), derivedProjections.get(1))
+                        : new AggregationUnitAccumulator(aggregationProjection, distinctCountExactLimit);
+            default:
+                return new AggregationUnitAccumulator(aggregationProjection, distinctCountExactLimit);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregation unit accumulator, which keeps one {@link AggregationUnit} per group for aggregations without primitive state, such as distinct aggregations.
+ */
+public final class AggregationUnitAccumulator implements AggregationAccumulator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private final boolean distinct;
+    
+    private final int distinctCountExactLimit;
+    
+    private AggregationUnit[] units = new AggregationUnit[16];
+    
+    public AggregationUnitAccumulator(final AggregationProjection aggregationProjection, final int distinctCountExactLimit) {
+        this.aggregationProjection = aggregationProjection;
+        distinct = aggregationProjection instanceof AggregationDistinctProjection;
+        this.distinctCountExactLimit = distinctCountExactLimit;
+    }
+    
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        List<Comparable<?>> values = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            values.add(AggregationValueUtils.getAggregationValue(queryResult, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                values.add(AggregationValueUtils.getAggregationValue(queryResult, each));
+            }
+        }
+        getUnit(groupIndex).merge(values);
+    }
+    
+    private AggregationUnit getUnit(final int groupIndex) {
+        if (groupIndex >= units.length) {
+            units = Arrays.copyOf(units, Math.max(units.length << 1, groupIndex + 1));
+        }
+        if (null == units[groupIndex]) {
+            units[groupIndex] = AggregationUnitFactory.create(aggregationProjection.getType(), distinct, distinctCountExactLimit);
+        }
+        return units[groupIndex];
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return getUnit(groupIndex).getResult();
+    }
+}
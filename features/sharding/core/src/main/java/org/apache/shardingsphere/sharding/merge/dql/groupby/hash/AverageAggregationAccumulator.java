@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+
+/**
+ * Average aggregation accumulator, which merges derived {@code COUNT} and {@code SUM} projections.
+ */
+@RequiredArgsConstructor
+public final class AverageAggregationAccumulator implements AggregationAccumulator {
+    
+    private final AggregationProjection countProjection;
+    
+    private final AggregationProjection sumProjection;
+    
+    private final NumericAccumulation countAccumulation = new NumericAccumulation();
+    
+    private final NumericAccumulation sumAccumulation = new NumericAccumulation();
+    
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Comparable<?> count = AggregationValueUtils.getAggregationValue(queryResult, countProjection);
+        Comparable<?> sum = AggregationValueUtils.getAggregationValue(queryResult, sumProjection);
+        if (null == count || null == sum) {
+            return;
+        }
+        countAccumulation.add(groupIndex, count);
+        sumAccumulation.add(groupIndex, sum);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        BigDecimal count = countAccumulation.getResult(groupIndex);
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sumAccumulation.getResult(groupIndex).divide(count, 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable aggregation accumulator, for {@code MAX} and {@code MIN}.
+ */
+@RequiredArgsConstructor
+public final class ComparableAggregationAccumulator implements AggregationAccumulator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] results = new Comparable<?>[16];
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void merge(final int groupIndex, final QueryResult queryResult) throws SQLException {
+        Comparable<?> value = AggregationValueUtils.getAggregationValue(queryResult, aggregationProjection);
+        if (null == value) {
+            return;
+        }
+        if (groupIndex >= results.length) {
+            results = Arrays.copyOf(results, Math.max(results.length << 1, groupIndex + 1));
+        }
+        if (null == results[groupIndex]) {
+            results[groupIndex] = value;
+            return;
+        }
+        int comparedValue = ((Comparable) value).compareTo(results[groupIndex]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            results[groupIndex] = value;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int groupIndex) {
+        return groupIndex < results.length ? results[groupIndex] : null;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Group by hash aggregator.
+ *
+ * <p>Aggregates query result rows into one memory row per group, rows are kept in first seen order of groups.</p>
+ */
+public final class GroupByHashAggregator {
+    
+    private static final int INITIAL_GROUP_SIZE = 1024;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final List<AggregationAccumulator> accumulators;
+    
+    private final GroupByHashTable hashTable = new GroupByHashTable(INITIAL_GROUP_SIZE);
+    
+    private final List<MemoryQueryResultRow> rows = new ArrayList<>(INITIAL_GROUP_SIZE);
+    
+    private final Object[] groupValues;
+    
+    public GroupByHashAggregator(final SelectStatementContext selectStatementContext, final int distinctCountExactLimit) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        accumulators = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            accumulators.add(AggregationAccumulatorFactory.create(each, distinctCountExactLimit));
+        }
+        groupValues = new Object[groupByItems.size()];
+    }
+    
+    /**
+     * Aggregate all rows of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        while (queryResult.next()) {
+            loadGroupValues(queryResult);
+            int groupIndex = hashTable.putIfAbsent(groupValues);
+            if (groupIndex == rows.size()) {
+                rows.add(new MemoryQueryResultRow(queryResult));
+            }
+            for (AggregationAccumulator each : accumulators) {
+                each.merge(groupIndex, queryResult);
+            }
+        }
+    }
+    
+    private void loadGroupValues(final QueryResult queryResult) throws SQLException {
+        int index = 0;
+        for (OrderByItem each : groupByItems) {
+            groupValues[index++] = queryResult.getValue(each.getIndex(), Object.class);
+        }
+    }
+    
+    /**
+     * Get aggregated rows.
+     *
+     * @return aggregated rows with aggregation values, one row per group
+     */
+    public List<MemoryQueryResultRow> getRows() {
+        for (int i = 0; i < accumulators.size(); i++) {
+            AggregationAccumulator accumulator = accumulators.get(i);
+            int columnIndex = aggregationProjections.get(i).getIndex();
+            for (int groupIndex = 0; groupIndex < rows.size(); groupIndex++) {
+                rows.get(groupIndex).setCell(columnIndex, accumulator.getResult(groupIndex));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Group by hash table.
+ *
+ * <p>Open addressing hash table which maps group by values to dense group indexes, group indexes are assigned in insertion order.</p>
+ */
+public final class GroupByHashTable {
+    
+    private static final int EMPTY = -1;
+    
+    private int[] slots;
+    
+    private int[] slotHashes;
+    
+    private Object[][] groupValues;
+    
+    @Getter
+    private int size;
+    
+    public GroupByHashTable(final int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, 16) * 4 / 3 + 1);
+        slots = new int[capacity];
+        slotHashes = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        groupValues = new Object[Math.max(expectedSize, 16)][];
+    }
+    
+    private static int tableSizeFor(final int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+    
+    /**
+     * Find group index of group by values, put group by values as a new group if absent.
+     *
+     * <p>The passed in values array is copied when a new group is created, so it can be reused by caller.</p>
+     *
+     * @param values group by values
+     * @return group index, equals to the size before put if a new group is created
+     */
+    public int putIfAbsent(final Object[] values) {
+        int hash = spread(Arrays.hashCode(values));
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (EMPTY != slots[slot]) {
+            if (hash == slotHashes[slot] && Arrays.equals(values, groupValues[slots[slot]])) {
+                return slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        int result = size++;
+        if (result == groupValues.length) {
+            groupValues = Arrays.copyOf(groupValues, result << 1);
+        }
+        groupValues[result] = values.clone();
+        slots[slot] = result;
+        slotHashes[slot] = hash;
+        if (size * 4 > slots.length * 3) {
+            rehash();
+        }
+        return result;
+    }
+    
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+    
+    private void rehash() {
+        int[] newSlots = new int[slots.length << 1];
+        int[] newSlotHashes = new int[newSlots.length];
+        Arrays.fill(newSlots, EMPTY);
+        int mask = newSlots.length - 1;
+        for (int i = 0; i < slots.length; i++) {
+            if (EMPTY == slots[i]) {
+                continue;
+            }
+            int slot = slotHashes[i] & mask;
+            while (EMPTY != newSlots[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = slots[i];
+            newSlotHashes[slot] = slotHashes[i];
+        }
+        slots = newSlots;
+        slotHashes = newSlotHashes;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Numeric accumulation of all groups.
+ *
+ * <p>Integral values are accumulated in primitive long slots, a group switches to {@code BigDecimal} once it overflows or receives a non integral value,
+ * so the result is the same as accumulating everything with {@code BigDecimal}.</p>
+ */
+public final class NumericAccumulation {
+    
+    private long[] longValues = new long[16];
+    
+    private BigDecimal[] decimalValues;
+    
+    private boolean[] present = new boolean[16];
+    
+    /**
+     * Add value to group.
+     *
+     * @param groupIndex group index
+     * @param value value to be added
+     */
+    public void add(final int groupIndex, final Comparable<?> value) {
+        ensureCapacity(groupIndex);
+        present[groupIndex] = true;
+        if (null != decimalValues && null != decimalValues[groupIndex]) {
+            decimalValues[groupIndex] = decimalValues[groupIndex].add(new BigDecimal(value.toString()));
+            return;
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long current = longValues[groupIndex];
+            long added = ((Number) value).longValue();
+            long sum = current + added;
+            if (((current ^ sum) & (added ^ sum)) >= 0L) {
+                longValues[groupIndex] = sum;
+                return;
+            }
+        }
+        if (null == decimalValues) {
+            decimalValues = new BigDecimal[longValues.length];
+        }
+        decimalValues[groupIndex] = BigDecimal.valueOf(longValues[groupIndex]).add(new BigDecimal(value.toString()));
+    }
+    
+    private void ensureCapacity(final int groupIndex) {
+        if (groupIndex < longValues.length) {
+            return;
+        }
+        int newLength = Math.max(longValues.length << 1, groupIndex + 1);
+        longValues = Arrays.copyOf(longValues, newLength);
+        present = Arrays.copyOf(present, newLength);
+        if (null != decimalValues) {
+            decimalValues = Arrays.copyOf(decimalValues, newLength);
+        }
+    }
+    
+    /**
+     * Get accumulated result of group.
+     *
+     * @param groupIndex group index
+     * @return accumulated result, null if no value has been added to group
+     */
+    public BigDecimal getResult(final int groupIndex) {
+        if (groupIndex >= present.length || !present[groupIndex]) {
+            return null;
+        }
+        return null == decimalValues || null == decimalValues[groupIndex] ? BigDecimal.valueOf(longValues[groupIndex]) : decimalValues[groupIndex];
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Merges sorted order by values in k-way, each iteration replays only the path from the winner leaf to the root, which costs {@code log(k)} comparisons.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    /**
+     * Constructor.
+     *
+     * @param orderByValues order by values which are already positioned at first row
+     */
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        tree = new int[this.orderByValues.length];
+        Arrays.fill(tree, this.orderByValues.length);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get current winner order by value.
+     *
+     * @return current winner order by value, null if empty
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : orderByValues[tree[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next row and replay the tree.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        int winner = tree[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (isWinner(tree[parent], winner)) {
+                int loser = winner;
+                winner = tree[parent];
+                tree[parent] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isWinner(final int index, final int otherIndex) {
+        if (orderByValues.length == index) {
+            return true;
+        }
+        if (orderByValues.length == otherIndex) {
+            return false;
+        }
+        if (exhausted[index] || exhausted[otherIndex]) {
+            return exhausted[otherIndex] && (!exhausted[index] || index < otherIndex);
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+}
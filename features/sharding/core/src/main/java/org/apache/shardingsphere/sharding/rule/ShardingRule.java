@@ -588,6 +588,17 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return getKeyGenerateAlgorithm(logicTableName).generateKey();
     }
     
+    /**
+     * Generate keys of logic table.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public Collection<? extends Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
     private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         ShardingSpherePreconditions.checkState(tableRule.isPresent(), () -> new GenerateKeyStrategyNotFoundException(logicTableName));
@@ -39,6 +39,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -47,6 +48,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -144,7 +147,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMilliseconds(algorithm, timeService.getCurrentMillis() + 2);
+        setLastMillisecondsAndSequence(algorithm, timeService.getCurrentMillis() + 2, 0L);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -161,7 +164,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMilliseconds(algorithm, timeService.getCurrentMillis() + 2);
+        setLastMillisecondsAndSequence(algorithm, timeService.getCurrentMillis() + 2, 0L);
         assertThrows(SnowflakeClockMoveBackException.class, () -> batchGenerate(algorithm));
     }
     
@@ -179,8 +182,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof InstanceContextAware) {
             ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
         }
-        setLastMilliseconds(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1 << DEFAULT_SEQUENCE_BITS) - 1L);
+        setLastMillisecondsAndSequence(algorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 1L);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
@@ -190,13 +192,54 @@ class SnowflakeKeyGenerateAlgorithmTest {
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds"), algorithm, value);
+    private void setLastMillisecondsAndSequence(final KeyGenerateAlgorithm algorithm, final long lastMilliseconds, final long sequence) {
+        AtomicLong lastMillisecondsAndSequence = (AtomicLong) Plugins.getMemberAccessor().get(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisecondsAndSequence"), algorithm);
+        lastMillisecondsAndSequence.set(lastMilliseconds << DEFAULT_SEQUENCE_BITS | sequence);
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, value);
+    @Test
+    void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        assertThat(new ArrayList<>(algorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(2)), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        setLastMillisecondsAndSequence(algorithm, timeService.getCurrentMillis(), (1 << DEFAULT_SEQUENCE_BITS) - 3L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(4)), is(Arrays.<Comparable<?>>asList(4094L, 4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber * 4;
+        int keyCountPerTask = 1000;
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(keyCountPerTask)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * keyCountPerTask, 1);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * keyCountPerTask));
     }
     
     @Test
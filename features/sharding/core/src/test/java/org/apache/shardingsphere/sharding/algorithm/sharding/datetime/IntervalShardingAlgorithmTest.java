@@ -43,6 +43,7 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Properties;
@@ -415,4 +416,42 @@ class IntervalShardingAlgorithmTest {
                                 new Date(LocalDate.of(2021, 7, 31).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli()))));
         assertThat(actualAsLocalDate.size(), is(24));
     }
+    
+    @Test
+    void assertDoShardingByDayOverTenYears() {
+        Properties props = PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd"),
+                new Property("datetime-lower", "2013-01-01"),
+                new Property("datetime-upper", "2022-12-31"),
+                new Property("sharding-suffix-pattern", "yyyyMMdd"),
+                new Property("datetime-interval-amount", "1"),
+                new Property("datetime-interval-unit", "Days"));
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", props);
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (LocalDate each = LocalDate.of(2013, 1, 1); !each.isAfter(LocalDate.of(2022, 12, 31)); each = each.plusDays(1)) {
+            availableTargetNames.add("t_order_" + each.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2018-07-15")), is("t_order_20180715"));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2012-12-31")));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2018-07-15", "2018-08-15"))).size(), is(31));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atLeast("2022-12-30"))).size(), is(2));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.all())).size(), is(3652));
+    }
+    
+    @Test
+    void assertDoShardingBySecondOverOneYear() {
+        Properties props = PropertiesBuilder.build(
+                new Property("datetime-pattern", "yyyy-MM-dd HH:mm:ss"),
+                new Property("datetime-lower", "2022-01-01 00:00:00"),
+                new Property("datetime-upper", "2022-12-31 23:59:59"),
+                new Property("sharding-suffix-pattern", "yyyyMMddHHmmss"),
+                new Property("datetime-interval-amount", "1"),
+                new Property("datetime-interval-unit", "Seconds"));
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", props);
+        Collection<String> availableTargetNames = Arrays.asList("t_order_20220101000000", "t_order_20220101000001", "t_order_20220101000002", "t_order_20220101000003");
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2022-01-01 00:00:02")), is("t_order_20220101000002"));
+        assertNull(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2021-12-31 23:59:59")));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2022-01-01 00:00:01", "2022-01-01 00:00:03"))).size(), is(2));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineShardingExpressionTest {
+    
+    @Test
+    void assertCompileWithModulo() {
+        CompiledInlineShardingExpression actual = CompiledInlineShardingExpression.compile("t_order_${order_id % 16}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate("order_id", 17).orElse(null), is("t_order_1"));
+        assertThat(actual.evaluate("order_id", 787694822390497285L).orElse(null), is("t_order_5"));
+        assertThat(actual.evaluate("order_id", -1).orElse(null), is("t_order_-1"));
+    }
+    
+    @Test
+    void assertCompileWithHashCode() {
+        CompiledInlineShardingExpression actual = CompiledInlineShardingExpression.compile("ds_${user_id.hashCode() % 4}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate("user_id", "foo").orElse(null), is("ds_" + "foo".hashCode() % 4));
+    }
+    
+    @Test
+    void assertCompileWithAbsolute() {
+        assertThat(CompiledInlineShardingExpression.compile("t_order_${(order_id % 4).abs()}").flatMap(optional -> optional.evaluate("order_id", -1)).orElse(null), is("t_order_1"));
+        assertThat(CompiledInlineShardingExpression.compile("t_order_${Math.abs(order_id % 4)}_bak").flatMap(optional -> optional.evaluate("order_id", -3)).orElse(null), is("t_order_3_bak"));
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 4 + 1}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id.substring(0, 1)}").isPresent());
+        assertFalse(CompiledInlineShardingExpression.compile("t_order_${order_id % 0}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineShardingExpression actual = CompiledInlineShardingExpression.compile("t_order_${order_id % 4}").orElseThrow(IllegalStateException::new);
+        assertFalse(actual.evaluate("non_existent_column", 1).isPresent());
+        assertFalse(actual.evaluate("order_id", new BigInteger("787694822390497280787694822390497280")).isPresent());
+        assertTrue(actual.evaluate("order_id", (short) 5).isPresent());
+    }
+}
@@ -103,4 +103,21 @@ class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames,
                 new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, new BigInteger("787694822390497280787694822390497280"))), is("t_order_0"));
     }
+    
+    @Test
+    void assertDoShardingWithHashCode() {
+        InlineShardingAlgorithm algorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE",
+                PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${(order_id.hashCode() % 4).abs()}")));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "foo")), is("t_order_" + Math.abs("foo".hashCode() % 4)));
+    }
+    
+    @Test
+    void assertDoShardingWithArbitraryExpression() {
+        InlineShardingAlgorithm algorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE",
+                PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 4 + 1}")));
+        List<String> availableTargetNames = Arrays.asList("t_order_1", "t_order_2", "t_order_3", "t_order_4");
+        assertThat(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 2)), is("t_order_3"));
+        assertThat(algorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 3)), is("t_order_4"));
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistinctCountAggregationUnitTest {
+    
+    @Test
+    void assertDistinctCountAggregation() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit(0);
+        distinctCountAggregationUnit.merge(null);
+        distinctCountAggregationUnit.merge(Collections.singletonList(null));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(10));
+        assertThat(distinctCountAggregationUnit.getResult(), is(2L));
+    }
+    
+    @Test
+    void assertDistinctCountAggregationWithinExactLimit() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit(2);
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(10));
+        distinctCountAggregationUnit.merge(Collections.singletonList(10));
+        assertThat(distinctCountAggregationUnit.getResult(), is(2L));
+    }
+    
+    @Test
+    void assertDistinctCountAggregationWithIntegralNumbersOfDifferentTypes() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit(0);
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1L));
+        distinctCountAggregationUnit.merge(Collections.singletonList((short) 1));
+        assertThat(distinctCountAggregationUnit.getResult(), is(1L));
+    }
+    
+    @Test
+    void assertDistinctCountAggregationWithIntegralNumbersOfDifferentTypesBeyondExactLimit() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit(1);
+        distinctCountAggregationUnit.merge(Collections.singletonList(1));
+        distinctCountAggregationUnit.merge(Collections.singletonList(2L));
+        distinctCountAggregationUnit.merge(Collections.singletonList(1L));
+        distinctCountAggregationUnit.merge(Collections.singletonList((short) 2));
+        assertThat(distinctCountAggregationUnit.getResult(), is(2L));
+    }
+    
+    @Test
+    void assertDistinctCountAggregationBeyondExactLimit() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit(100);
+        for (int i = 0; i < 100000; i++) {
+            distinctCountAggregationUnit.merge(Collections.singletonList(i % 50000));
+        }
+        long actual = (Long) distinctCountAggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 50000) < 50000 * 0.03);
+    }
+}
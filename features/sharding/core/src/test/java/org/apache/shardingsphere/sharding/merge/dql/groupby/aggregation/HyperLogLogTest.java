@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+    
+    @Test
+    void assertCardinalityForSmallRange() {
+        HyperLogLog actual = new HyperLogLog();
+        for (int i = 0; i < 3; i++) {
+            actual.offer(1L);
+            actual.offer("foo");
+            actual.offer("bar");
+        }
+        assertThat(actual.cardinality(), is(3L));
+    }
+    
+    @Test
+    void assertCardinalityForLargeRange() {
+        HyperLogLog actual = new HyperLogLog();
+        for (long i = 0; i < 1000000L; i++) {
+            actual.offer(i);
+        }
+        assertTrue(Math.abs(actual.cardinality() - 1000000L) < 1000000L * 0.03);
+    }
+}
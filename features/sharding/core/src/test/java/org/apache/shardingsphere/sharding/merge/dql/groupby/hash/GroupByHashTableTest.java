@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertPutIfAbsent() {
+        GroupByHashTable hashTable = new GroupByHashTable(16);
+        Object[] groupValues = {"foo", 1};
+        assertThat(hashTable.putIfAbsent(groupValues), is(0));
+        groupValues[1] = 2;
+        assertThat(hashTable.putIfAbsent(groupValues), is(1));
+        groupValues[1] = 1;
+        assertThat(hashTable.putIfAbsent(groupValues), is(0));
+        assertThat(hashTable.putIfAbsent(new Object[]{null, null}), is(2));
+        assertThat(hashTable.putIfAbsent(new Object[]{null, null}), is(2));
+        assertThat(hashTable.getSize(), is(3));
+    }
+    
+    @Test
+    void assertPutIfAbsentWithRehash() {
+        GroupByHashTable hashTable = new GroupByHashTable(16);
+        for (int i = 0; i < 10000; i++) {
+            assertThat(hashTable.putIfAbsent(new Object[]{i}), is(i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(hashTable.putIfAbsent(new Object[]{i}), is(i));
+        }
+        assertThat(hashTable.getSize(), is(10000));
+    }
+}
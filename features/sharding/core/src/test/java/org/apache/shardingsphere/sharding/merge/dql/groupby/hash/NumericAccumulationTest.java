@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NumericAccumulationTest {
+    
+    @Test
+    void assertAddIntegralValues() {
+        NumericAccumulation accumulation = new NumericAccumulation();
+        accumulation.add(0, 1);
+        accumulation.add(0, 2L);
+        accumulation.add(100, (short) 3);
+        assertThat(accumulation.getResult(0), is(new BigDecimal("3")));
+        assertThat(accumulation.getResult(100), is(new BigDecimal("3")));
+        assertNull(accumulation.getResult(1));
+        assertNull(accumulation.getResult(1000));
+    }
+    
+    @Test
+    void assertAddWithOverflow() {
+        NumericAccumulation accumulation = new NumericAccumulation();
+        accumulation.add(0, Long.MAX_VALUE);
+        accumulation.add(0, 1L);
+        accumulation.add(0, 1);
+        assertThat(accumulation.getResult(0), is(BigDecimal.valueOf(Long.MAX_VALUE).add(new BigDecimal("2"))));
+    }
+    
+    @Test
+    void assertAddDecimalValues() {
+        NumericAccumulation accumulation = new NumericAccumulation();
+        accumulation.add(0, 1);
+        accumulation.add(0, new BigDecimal("1.50"));
+        accumulation.add(0, 2.5D);
+        assertThat(accumulation.getResult(0), is(new BigDecimal("5.00")));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertEmpty() {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+    }
+    
+    @Test
+    void assertMerge() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>();
+        orderByValues.add(createOrderByValue(1, 4, 7, 10));
+        orderByValues.add(createOrderByValue(2, 5));
+        orderByValues.add(createOrderByValue(3, 3, 6, 9, 12));
+        orderByValues.add(createOrderByValue(8));
+        orderByValues.add(createOrderByValue(0, 11));
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Object> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            actual.add(loserTree.peek().getQueryResult().getValue(1, Object.class));
+            loserTree.next();
+        }
+        assertThat(actual, is(Arrays.<Object>asList(0, 1, 2, 3, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12)));
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        AtomicInteger cursor = new AtomicInteger();
+        when(queryResult.next()).thenAnswer(invocation -> cursor.incrementAndGet() <= values.length);
+        when(queryResult.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get() - 1]);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(orderByItem);
+        OrderByValue result = new OrderByValue(queryResult, orderByItems, mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mock(ShardingSphereSchema.class));
+        assertTrue(result.next());
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaConsistencyChecker;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata.SchemaMetaDataLoaderEngine;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(SchemaMetaDataLoaderEngine.class)
+class ShardingTableMetaDataConsistencyCheckTest {
+    
+    private GenericSchemaBuilderMaterial material;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(new ShardingTableRuleConfiguration("t_order", "foo_ds.t_order_${0..1}"));
+        ShardingRule rule = new ShardingRule(ruleConfig, Collections.singleton("foo_ds"), mock(InstanceContext.class));
+        material = new GenericSchemaBuilderMaterial(new MySQLDatabaseType(), Collections.singletonMap("foo_ds", new MySQLDatabaseType()), Collections.singletonMap("foo_ds", mock(DataSource.class)),
+                Collections.singleton(rule), new ConfigurationProperties(new Properties()), "foo_db");
+    }
+    
+    @Test
+    void assertCheckWithUniformedTables() throws SQLException {
+        Collection<ColumnMetaData> columns = Arrays.asList(createColumnMetaData("order_id"), createColumnMetaData("status"));
+        mockLoadedTables(new TableMetaData("t_order_0", columns, Collections.emptyList(), Collections.emptyList()),
+                new TableMetaData("t_order_1", columns, Collections.emptyList(), Collections.emptyList()));
+        assertTrue(GenericSchemaConsistencyChecker.check(Collections.singleton("t_order"), material));
+    }
+    
+    @Test
+    void assertCheckWithDriftedTable() throws SQLException {
+        mockLoadedTables(new TableMetaData("t_order_0", Arrays.asList(createColumnMetaData("order_id"), createColumnMetaData("status")), Collections.emptyList(), Collections.emptyList()),
+                new TableMetaData("t_order_1", Collections.singleton(createColumnMetaData("order_id")), Collections.emptyList(), Collections.emptyList()));
+        assertFalse(GenericSchemaConsistencyChecker.check(Collections.singleton("t_order"), material));
+    }
+    
+    private ColumnMetaData createColumnMetaData(final String columnName) {
+        return new ColumnMetaData(columnName, Types.INTEGER, false, false, true, true, false);
+    }
+    
+    private void mockLoadedTables(final TableMetaData... tables) throws SQLException {
+        when(SchemaMetaDataLoaderEngine.load(any())).thenReturn(Collections.singletonMap("foo_db", new SchemaMetaData("foo_db", Arrays.asList(tables))));
+    }
+}
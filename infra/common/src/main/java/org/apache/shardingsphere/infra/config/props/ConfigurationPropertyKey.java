@@ -52,6 +52,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of thread type to execute SQL and proxy connection commands: PLATFORM(default), VIRTUAL.
+     * The VIRTUAL option uses virtual threads on JDK 21 and above, {@link ConfigurationPropertyKey#KERNEL_EXECUTOR_SIZE} is ignored with it, and falls back to PLATFORM on lower JDK versions.
+     */
+    KERNEL_EXECUTOR_THREAD_TYPE("kernel-executor-thread-type", ExecutorThreadType.PLATFORM.name(), ExecutorThreadType.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,6 +68,28 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_META_DATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether validate table meta data consistency in background after loading one actual table of each logic table, only works when check table meta data is disabled.
+     */
+    CHECK_TABLE_META_DATA_ASYNC_ENABLED("check-table-metadata-async-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max distinct values count which are counted exactly for each count distinct aggregation, the count turns into HyperLogLog estimation beyond it.
+     * Less than or equal to 0 means no limitation.
+     */
+    AGGREGATION_DISTINCT_COUNT_EXACT_LIMIT("aggregation-distinct-count-exact-limit", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max count of rows merged into one multi-values INSERT statement for each data node when executing batched single row INSERT.
+     * Less than or equal to 1 means batched INSERT are not merged.
+     */
+    BATCH_INSERT_VALUES_SIZE("batch-insert-values-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether commit or rollback cached connections of local transaction in parallel.
+     */
+    COMMIT_PARALLEL_ENABLED("commit-parallel-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * SQL federation type.
      */
@@ -77,6 +105,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold of encoded bytes for ShardingSphere-Proxy, records are flushed by bytes instead of {@link ConfigurationPropertyKey#PROXY_FRONTEND_FLUSH_THRESHOLD} if it is greater than 0.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max milliseconds a written packet waits before it is flushed for ShardingSphere-Proxy. Less than or equal to 0 means no limitation.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(0), int.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -99,7 +99,11 @@ public final class GenericSchemaBuilder {
         if (schemaMetaDataLoaderMaterials.isEmpty()) {
             return Collections.emptyMap();
         }
-        return SchemaMetaDataLoaderEngine.load(schemaMetaDataLoaderMaterials);
+        Map<String, SchemaMetaData> result = SchemaMetaDataLoaderEngine.load(schemaMetaDataLoaderMaterials);
+        if (!checkMetaDataEnable && material.getProps().<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ASYNC_ENABLED)) {
+            GenericSchemaConsistencyChecker.checkAsync(tableNames, material);
+        }
+        return result;
     }
     
     private static Map<String, SchemaMetaData> translate(final Map<String, SchemaMetaData> schemaMetaDataMap, final GenericSchemaBuilderMaterial material) {
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.util.exception.external.sql.ShardingSphereSQLException;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Generic schema consistency checker.
+ * 
+ * <p>Loads all actual tables of logic tables which have more than one data node and checks whether their meta data are uniformed,
+ * inconsistency is logged as warning instead of failing the schema building.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class GenericSchemaConsistencyChecker {
+    
+    private static final int MAX_QUEUED_CHECKS = 16;
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_CHECKS),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-GenericSchemaConsistencyChecker-%d").build());
+    
+    private static final Set<PendingCheck> PENDING_CHECKS = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Check table meta data consistency in background.
+     * 
+     * <p>Tables whose check is still pending are skipped, and the check is dropped if too many checks are queued.</p>
+     *
+     * @param tableNames table names
+     * @param material generic schema builder material
+     */
+    public static void checkAsync(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        Collection<PendingCheck> pendingChecks = new LinkedList<>();
+        for (Entry<String, Collection<DataNode>> entry : getShardedTableDataNodes(tableNames, material).entrySet()) {
+            PendingCheck pendingCheck = new PendingCheck(getDataSource(material, entry.getValue().iterator().next()), entry.getKey());
+            if (PENDING_CHECKS.add(pendingCheck)) {
+                pendingChecks.add(pendingCheck);
+            }
+        }
+        if (pendingChecks.isEmpty()) {
+            return;
+        }
+        try {
+            EXECUTOR_SERVICE.execute(() -> checkPending(pendingChecks, material));
+        } catch (final RejectedExecutionException ex) {
+            PENDING_CHECKS.removeAll(pendingChecks);
+            log.warn("Too many table meta data consistency checks are queued, skip check of logic tables {}.", getTableNames(pendingChecks));
+        }
+    }
+    
+    private static void checkPending(final Collection<PendingCheck> pendingChecks, final GenericSchemaBuilderMaterial material) {
+        Collection<String> tableNames = getTableNames(pendingChecks);
+        try {
+            doCheck(tableNames, material);
+        } catch (final SQLException ex) {
+            log.warn("Load actual table meta data of logic tables {} failed, skip consistency check.", tableNames, ex);
+        } finally {
+            PENDING_CHECKS.removeAll(pendingChecks);
+        }
+    }
+    
+    /**
+     * Check table meta data consistency.
+     *
+     * @param tableNames table names
+     * @param material generic schema builder material
+     * @return table meta data of all actual tables are uniformed or not
+     * @throws SQLException SQL exception when load actual table meta data failed
+     */
+    public static boolean check(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
+        return doCheck(getShardedTableDataNodes(tableNames, material).keySet(), material);
+    }
+    
+    private static boolean doCheck(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return true;
+        }
+        try {
+            GenericSchemaBuilder.build(tableNames, createCheckMaterial(material));
+            return true;
+        } catch (final ShardingSphereSQLException ex) {
+            log.warn("Table meta data of logic tables {} are inconsistent: {}", tableNames, ex.getMessage());
+            return false;
+        }
+    }
+    
+    private static Map<String, Collection<DataNode>> getShardedTableDataNodes(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
+        Map<String, Collection<DataNode>> result = new LinkedHashMap<>(tableNames.size(), 1);
+        DataNodes dataNodes = new DataNodes(material.getRules());
+        for (String each : tableNames) {
+            Collection<DataNode> tableDataNodes = dataNodes.getDataNodes(each);
+            if (tableDataNodes.size() > 1) {
+                result.put(each, tableDataNodes);
+            }
+        }
+        return result;
+    }
+    
+    private static DataSource getDataSource(final GenericSchemaBuilderMaterial material, final DataNode dataNode) {
+        String dataSourceName = dataNode.getDataSourceName();
+        return material.getDataSourceMap().get(dataSourceName.contains(".") ? dataSourceName.split("\\.")[0] : dataSourceName);
+    }
+    
+    private static Collection<String> getTableNames(final Collection<PendingCheck> pendingChecks) {
+        return pendingChecks.stream().map(PendingCheck::getTableName).collect(Collectors.toList());
+    }
+    
+    private static GenericSchemaBuilderMaterial createCheckMaterial(final GenericSchemaBuilderMaterial material) {
+        Properties props = new Properties();
+        props.putAll(material.getProps().getProps());
+        props.setProperty(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new GenericSchemaBuilderMaterial(material.getProtocolType(), material.getStorageTypes(), material.getDataSourceMap(), material.getRules(),
+                new ConfigurationProperties(props), material.getDefaultSchemaName());
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    private static final class PendingCheck {
+        
+        private final DataSource dataSource;
+        
+        private final String tableName;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.schema.fixture.rule.TableContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata.SchemaMetaDataLoaderEngine;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(SchemaMetaDataLoaderEngine.class)
+class GenericSchemaConsistencyCheckerTest {
+    
+    private final DataNodeContainedRule dataNodeContainedRule = mock(DataNodeContainedRule.class);
+    
+    private GenericSchemaBuilderMaterial material;
+    
+    @BeforeEach
+    void setUp() {
+        material = new GenericSchemaBuilderMaterial(mock(DatabaseType.class), Collections.emptyMap(), Collections.singletonMap("foo_ds", mock(DataSource.class)),
+                Arrays.asList(new TableContainedFixtureRule(), dataNodeContainedRule), new ConfigurationProperties(new Properties()), DefaultDatabase.LOGIC_NAME);
+    }
+    
+    @Test
+    void assertCheckSuccess() throws SQLException {
+        mockShardedTable();
+        when(SchemaMetaDataLoaderEngine.load(any())).thenReturn(Collections.emptyMap());
+        assertTrue(GenericSchemaConsistencyChecker.check(Collections.singletonList("t_order"), material));
+    }
+    
+    @Test
+    void assertCheckWithoutShardedTable() throws SQLException {
+        when(dataNodeContainedRule.getDataNodesByTableName("t_single")).thenReturn(Collections.singletonList(new DataNode("foo_ds.t_single")));
+        when(SchemaMetaDataLoaderEngine.load(any())).thenThrow(SQLException.class);
+        assertTrue(GenericSchemaConsistencyChecker.check(Arrays.asList("t_single", "data_node_routed_table1"), material));
+    }
+    
+    @Test
+    void assertCheckWhenLoadFailed() throws SQLException {
+        mockShardedTable();
+        when(SchemaMetaDataLoaderEngine.load(any())).thenThrow(SQLException.class);
+        assertThrows(SQLException.class, () -> GenericSchemaConsistencyChecker.check(Collections.singletonList("t_order"), material));
+    }
+    
+    private void mockShardedTable() {
+        when(dataNodeContainedRule.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("foo_ds.t_order_0"), new DataNode("foo_ds.t_order_1")));
+    }
+}
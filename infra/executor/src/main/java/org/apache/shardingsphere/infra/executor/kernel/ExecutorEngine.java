@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -47,6 +48,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final ExecutorThreadType threadType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, threadType);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -57,6 +62,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, ignored if virtual thread is used
+     * @param threadType thread type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndThreadType(final int executorSize, final ExecutorThreadType threadType) {
+        return new ExecutorEngine(executorSize, threadType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,15 +42,34 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorThreadType threadType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, threadType);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ExecutorThreadType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, threadType));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final ExecutorThreadType threadType) {
+        if (ExecutorThreadType.VIRTUAL == threadType && ExecutorThreadFactoryBuilder.isVirtualThreadSupported()) {
+            return getVirtualThreadPerTaskExecutorService(ExecutorThreadFactoryBuilder.build(nameFormat, threadType));
+        }
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualThreadPerTaskExecutorService(final ThreadFactory threadFactory) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException ignored) {
+            return Executors.newCachedThreadPool(threadFactory);
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
@@ -31,6 +33,17 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+    
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+    
     /**
      * Build thread factory with thread name format.
      * 
@@ -40,4 +53,32 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build thread factory with thread name format and thread type.
+     *
+     * @param nameFormat thread name format
+     * @param threadType thread type
+     * @return thread factory, platform thread factory if virtual thread is not supported by current JDK
+     */
+    public static ThreadFactory build(final String nameFormat, final ExecutorThreadType threadType) {
+        if (ExecutorThreadType.VIRTUAL != threadType || !isVirtualThreadSupported()) {
+            return build(nameFormat);
+        }
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread result = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        };
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JDK.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isVirtualThreadSupported() {
+        return null != VIRTUAL_THREAD_FACTORY;
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Multi-values insert SQL builder.
+ *
+ * <p>Builds multi-values INSERT SQL from actual SQL of single row INSERT whose values are parameter markers only and placed at the end of SQL.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultiValuesInsertSQLBuilder {
+    
+    private static final Pattern SINGLE_VALUES_INSERT_PATTERN = Pattern.compile("^(.*\\bVALUES\\s*)(\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private final String prefix;
+    
+    private final String values;
+    
+    @Getter
+    private final int parameterCount;
+    
+    /**
+     * Create new instance of multi-values insert SQL builder.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql actual SQL of single row INSERT
+     * @return multi-values insert SQL builder, empty if the SQL can not be merged into multi-values INSERT
+     */
+    public static Optional<MultiValuesInsertSQLBuilder> newInstance(final SQLStatementContext<?> sqlStatementContext, final String sql) {
+        if (!(sqlStatementContext instanceof InsertStatementContext) || !isSingleValuesInsert((InsertStatementContext) sqlStatementContext)) {
+            return Optional.empty();
+        }
+        Matcher matcher = SINGLE_VALUES_INSERT_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String values = matcher.group(2);
+        return Optional.of(new MultiValuesInsertSQLBuilder(matcher.group(1), values, (int) values.chars().filter(each -> '?' == each).count()));
+    }
+    
+    private static boolean isSingleValuesInsert(final InsertStatementContext insertStatementContext) {
+        return 1 == insertStatementContext.getValueListCount() && null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext();
+    }
+    
+    /**
+     * Build multi-values insert SQL.
+     *
+     * @param valuesCount count of values
+     * @return multi-values insert SQL
+     */
+    public String build(final int valuesCount) {
+        StringBuilder result = new StringBuilder(prefix.length() + (values.length() + 2) * valuesCount).append(prefix).append(values);
+        for (int i = 1; i < valuesCount; i++) {
+            result.append(", ").append(values);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * JDBC execute database context.
+ * 
+ * <p>Holds name of the logic database whose execution units are executing, so that SQL execution hooks can tell storage units with same name of different databases apart.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCExecuteDatabaseContext {
+    
+    private static final TransmittableThreadLocal<String> DATABASE_NAME = new TransmittableThreadLocal<>();
+    
+    /**
+     * Find database name.
+     *
+     * @return database name
+     */
+    public static Optional<String> findDatabaseName() {
+        return Optional.ofNullable(DATABASE_NAME.get());
+    }
+    
+    /**
+     * Set database name.
+     *
+     * @param databaseName database name
+     */
+    public static void set(final String databaseName) {
+        DATABASE_NAME.set(databaseName);
+    }
+    
+    /**
+     * Remove database name.
+     */
+    public static void remove() {
+        DATABASE_NAME.remove();
+    }
+}
@@ -63,11 +63,14 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        JDBCExecuteDatabaseContext.set(executionGroupContext.getReportContext().getDatabaseName());
         try {
             return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction());
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            JDBCExecuteDatabaseContext.remove();
         }
     }
 }
@@ -21,15 +21,19 @@ import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackF
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,6 +101,38 @@ class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    void assertParallelExecuteWithLaterGroupCompletedFirst() throws SQLException {
+        CountDownLatch lastGroupLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> callback = (inputs, isTrunkThread) -> {
+            String input = String.valueOf(inputs.iterator().next());
+            if ("1".equals(input)) {
+                awaitQuietly(lastGroupLatch);
+            } else if ("2".equals(input)) {
+                lastGroupLatch.countDown();
+            }
+            return Collections.singletonList(input);
+        };
+        List<String> actual = executorEngine.execute(createExecutionGroupContext("0", "1", "2"), callback);
+        assertThat(actual, is(Arrays.asList("0", "1", "2")));
+    }
+    
+    private ExecutionGroupContext<Object> createExecutionGroupContext(final Object... inputs) {
+        Collection<ExecutionGroup<Object>> result = new LinkedList<>();
+        for (Object each : inputs) {
+            result.add(new ExecutionGroup<>(Collections.singletonList(each)));
+        }
+        return new ExecutionGroupContext<>(result, mock(ExecutionGroupReportContext.class));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @Test
     void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
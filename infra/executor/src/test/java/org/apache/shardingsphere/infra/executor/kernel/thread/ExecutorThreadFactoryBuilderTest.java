@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorThreadFactoryBuilderTest {
     
@@ -33,4 +35,13 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildWithNameFormatAndVirtualThreadType() {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("test-%d", ExecutorThreadType.VIRTUAL);
+        Thread thread = threadFactory.newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+        assertTrue(thread.isDaemon());
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.context;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.values.OnDuplicateUpdateContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MultiValuesInsertSQLBuilderTest {
+    
+    @Test
+    void assertBuild() {
+        Optional<MultiValuesInsertSQLBuilder> actual = MultiValuesInsertSQLBuilder.newInstance(mockInsertStatementContext(1), "INSERT INTO t_order_0 (order_id, user_id) values (?, ?)");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getParameterCount(), is(2));
+        assertThat(actual.get().build(1), is("INSERT INTO t_order_0 (order_id, user_id) values (?, ?)"));
+        assertThat(actual.get().build(3), is("INSERT INTO t_order_0 (order_id, user_id) values (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    void assertNewInstanceWithoutInsertStatement() {
+        assertFalse(MultiValuesInsertSQLBuilder.newInstance(mock(SQLStatementContext.class), "INSERT INTO t_order_0 (order_id) VALUES (?)").isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithMultipleValues() {
+        assertFalse(MultiValuesInsertSQLBuilder.newInstance(mockInsertStatementContext(2), "INSERT INTO t_order_0 (order_id) VALUES (?), (?)").isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithOnDuplicateKeyUpdate() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(1);
+        when(insertStatementContext.getOnDuplicateKeyUpdateValueContext()).thenReturn(mock(OnDuplicateUpdateContext.class));
+        assertFalse(MultiValuesInsertSQLBuilder.newInstance(insertStatementContext, "INSERT INTO t_order_0 (order_id) VALUES (?) ON DUPLICATE KEY UPDATE status = (?)").isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithLiteralValues() {
+        assertFalse(MultiValuesInsertSQLBuilder.newInstance(mockInsertStatementContext(1), "INSERT INTO t_order_0 (order_id, status) VALUES (?, 'init')").isPresent());
+    }
+    
+    @Test
+    void assertNewInstanceWithReturning() {
+        assertFalse(MultiValuesInsertSQLBuilder.newInstance(mockInsertStatementContext(1), "INSERT INTO t_order_0 (order_id) VALUES (?) RETURNING order_id").isPresent());
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final int valueListCount) {
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getValueListCount()).thenReturn(valueListCount);
+        return result;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecuteDatabaseContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -54,6 +56,15 @@ class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @Test
+    void assertExecuteWithDatabaseNameInContext() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_db"));
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenAnswer(invocation -> Collections.singletonList(JDBCExecuteDatabaseContext.findDatabaseName().orElse(null)));
+        assertThat(new JDBCExecutor(executorEngine, new ConnectionContext()).execute(context, null), is(Collections.singletonList("foo_db")));
+        assertFalse(JDBCExecuteDatabaseContext.findDatabaseName().isPresent());
+    }
+    
     @Test
     void assertExecuteSQLException() {
         try {
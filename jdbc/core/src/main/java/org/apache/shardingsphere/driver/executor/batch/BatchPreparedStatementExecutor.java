@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.MultiValuesInsertSQLBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -39,6 +43,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,8 +61,9 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
+    
+    private final Map<ExecutionUnit, InsertValuesBatchExecutionUnit> insertValuesBatchExecutionUnits;
     
     private int batchCount;
     
@@ -68,7 +74,8 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(databaseName));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
+        insertValuesBatchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -86,44 +93,88 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == oldBatchExecutionUnit) {
+                handleNewBatchExecutionUnit(new BatchExecutionUnit(each));
+            } else {
+                reviseBatchExecutionUnit(oldBatchExecutionUnit, each);
+            }
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
-        for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
+    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final ExecutionUnit newExecutionUnit) {
+        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newExecutionUnit.getSqlUnit().getParameters());
+        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    private void handleNewBatchExecutionUnit(final BatchExecutionUnit newBatchExecutionUnit) {
+        newBatchExecutionUnit.mapAddBatchCount(batchCount);
+        batchExecutionUnits.put(newBatchExecutionUnit.getExecutionUnit(), newBatchExecutionUnit);
+    }
+    
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+    /**
+     * Get execution units to be prepared.
+     *
+     * <p>Rows of batched single row INSERT in each batch execution unit are merged into multi-values INSERT if batch insert values size is greater than 1.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return execution units to be prepared
+     */
+    public Collection<ExecutionUnit> getExecutionUnits(final SQLStatementContext<?> sqlStatementContext) {
+        int batchInsertValuesSize = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_SIZE);
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            Optional<MultiValuesInsertSQLBuilder> sqlBuilder = batchInsertValuesSize > 1
+                    ? MultiValuesInsertSQLBuilder.newInstance(sqlStatementContext, each.getExecutionUnit().getSqlUnit().getSql())
+                    : Optional.empty();
+            List<List<Object>> rows = each.getParameterSets();
+            if (sqlBuilder.isPresent() && rows.get(0).size() == sqlBuilder.get().getParameterCount()) {
+                result.addAll(createInsertValuesExecutionUnits(each, rows, sqlBuilder.get(), batchInsertValuesSize));
+            } else {
+                result.add(each.getExecutionUnit());
             }
         }
+        return result;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private Collection<ExecutionUnit> createInsertValuesExecutionUnits(final BatchExecutionUnit batchExecutionUnit, final List<List<Object>> rows,
+                                                                       final MultiValuesInsertSQLBuilder sqlBuilder, final int batchInsertValuesSize) {
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        int fullRowCount = rows.size() / batchInsertValuesSize * batchInsertValuesSize;
+        if (fullRowCount > 0) {
+            result.add(createInsertValuesExecutionUnit(batchExecutionUnit, rows, sqlBuilder, 0, fullRowCount, batchInsertValuesSize));
+        }
+        if (fullRowCount < rows.size()) {
+            result.add(createInsertValuesExecutionUnit(batchExecutionUnit, rows, sqlBuilder, fullRowCount, rows.size(), rows.size() - fullRowCount));
+        }
+        return result;
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private ExecutionUnit createInsertValuesExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final List<List<Object>> rows, final MultiValuesInsertSQLBuilder sqlBuilder,
+                                                          final int startRowIndex, final int endRowIndex, final int valuesCount) {
+        List<List<Object>> parameterSets = new ArrayList<>((endRowIndex - startRowIndex) / valuesCount);
+        List<Object> params = new ArrayList<>((endRowIndex - startRowIndex) * sqlBuilder.getParameterCount());
+        for (List<List<Object>> each : Lists.partition(rows.subList(startRowIndex, endRowIndex), valuesCount)) {
+            List<Object> parameterSet = new ArrayList<>(valuesCount * sqlBuilder.getParameterCount());
+            each.forEach(parameterSet::addAll);
+            parameterSets.add(parameterSet);
+            params.addAll(parameterSet);
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        ExecutionUnit result = new ExecutionUnit(batchExecutionUnit.getExecutionUnit().getDataSourceName(), new SQLUnit(sqlBuilder.build(valuesCount), params, sqlUnit.getTableRouteMappers()));
+        insertValuesBatchExecutionUnits.put(result, new InsertValuesBatchExecutionUnit(batchExecutionUnit, result, startRowIndex, valuesCount, parameterSets));
+        return result;
     }
     
     /**
@@ -153,7 +204,32 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        if (insertValuesBatchExecutionUnits.isEmpty()) {
+            return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        }
+        Map<BatchExecutionUnit, int[]> rowResults = getRowResults(results);
+        return isNeedAccumulate(sqlStatementContext) ? accumulateRowResults(rowResults) : rowResults.values().iterator().next();
+    }
+    
+    private Map<BatchExecutionUnit, int[]> getRowResults(final List<int[]> results) {
+        Map<BatchExecutionUnit, int[]> result = new LinkedHashMap<>(batchExecutionUnits.size(), 1F);
+        int count = 0;
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                InsertValuesBatchExecutionUnit insertValuesBatchExecutionUnit = insertValuesBatchExecutionUnits.get(eachUnit.getExecutionUnit());
+                if (null == insertValuesBatchExecutionUnit) {
+                    result.put(batchExecutionUnits.get(eachUnit.getExecutionUnit()), results.get(count));
+                } else {
+                    BatchExecutionUnit batchExecutionUnit = insertValuesBatchExecutionUnit.getBatchExecutionUnit();
+                    int[] rowResults = result.computeIfAbsent(batchExecutionUnit, unused -> new int[batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size()]);
+                    if (null != results.get(count)) {
+                        insertValuesBatchExecutionUnit.fillRowResults(results.get(count), rowResults);
+                    }
+                }
+                count++;
+            }
+        }
+        return result;
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext<?> sqlStatementContext) {
@@ -170,13 +246,8 @@ public final class BatchPreparedStatementExecutor {
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null == batchExecutionUnit ? Collections.emptyMap() : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
                     result[entry.getKey()] += value;
@@ -187,9 +258,14 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private int[] accumulateRowResults(final Map<BatchExecutionUnit, int[]> rowResults) {
+        int[] result = new int[batchCount];
+        for (Entry<BatchExecutionUnit, int[]> each : rowResults.entrySet()) {
+            for (Entry<Integer, Integer> entry : each.getKey().getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+                result[entry.getKey()] += null == each.getValue() ? 0 : each.getValue()[entry.getValue()];
+            }
+        }
+        return result;
     }
     
     /**
@@ -234,12 +310,13 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        InsertValuesBatchExecutionUnit insertValuesBatchExecutionUnit = insertValuesBatchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null != insertValuesBatchExecutionUnit) {
+            return insertValuesBatchExecutionUnit.getParameterSets();
         }
-        throw new IllegalStateException();
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != result);
+        return result.getParameterSets();
     }
     
     /**
@@ -250,5 +327,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        insertValuesBatchExecutionUnits.clear();
     }
 }
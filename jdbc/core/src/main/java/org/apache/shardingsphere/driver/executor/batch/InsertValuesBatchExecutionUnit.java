@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Batch execution unit of multi-values INSERT which is merged from rows of batched single row INSERT.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class InsertValuesBatchExecutionUnit {
+    
+    private final BatchExecutionUnit batchExecutionUnit;
+    
+    private final ExecutionUnit executionUnit;
+    
+    private final int startRowIndex;
+    
+    private final int valuesCount;
+    
+    private final List<List<Object>> parameterSets;
+    
+    /**
+     * Fill update counts of merged rows.
+     *
+     * @param insertValuesResults update counts of multi-values INSERT
+     * @param rowResults update counts of rows in batch execution unit to be filled
+     */
+    public void fillRowResults(final int[] insertValuesResults, final int[] rowResults) {
+        for (int i = 0; i < insertValuesResults.length; i++) {
+            int fromRowIndex = startRowIndex + i * valuesCount;
+            Arrays.fill(rowResults, fromRowIndex, fromRowIndex + valuesCount, getRowResult(insertValuesResults[i]));
+        }
+    }
+    
+    private int getRowResult(final int insertValuesResult) {
+        if (insertValuesResult == valuesCount) {
+            return 1;
+        }
+        return insertValuesResult < 0 ? insertValuesResult : Statement.SUCCESS_NO_INFO;
+    }
+}
@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.driver.jdbc.adapter.executor;
 
+import org.apache.shardingsphere.transaction.util.ParallelForceExecuteUtils;
+
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Force execute template.
@@ -47,6 +50,24 @@ public final class ForceExecuteTemplate<T> {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    /**
+     * Force execute in parallel.
+     *
+     * <p>The first target is executed in current thread, others are executed by executor service.</p>
+     *
+     * @param targets targets to be executed
+     * @param callback force execute callback
+     * @param executorService executor service
+     * @throws SQLException throw SQL exception after all targets are executed
+     */
+    public void execute(final Collection<T> targets, final ForceExecuteCallback<T> callback, final ExecutorService executorService) throws SQLException {
+        if (targets.size() <= 1) {
+            execute(targets, callback);
+            return;
+        }
+        throwSQLExceptionIfNecessary(ParallelForceExecuteUtils.execute(targets, callback::execute, executorService));
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
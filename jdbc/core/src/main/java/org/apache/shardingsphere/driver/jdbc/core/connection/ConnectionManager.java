@@ -22,9 +22,11 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import lombok.Getter;
+import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
@@ -79,6 +81,8 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
+    private final ContextManager contextManager;
+    
     @Getter
     private final ConnectionContext connectionContext;
     
@@ -87,6 +91,7 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
+        this.contextManager = contextManager;
         connectionContext = new ConnectionContext(this::getDataSourceNamesOfCachedConnections);
     }
     
@@ -155,9 +160,9 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
      */
     public void commit() throws SQLException {
         if (connectionTransaction.isLocalTransaction() && connectionTransaction.isRollbackOnly()) {
-            forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+            forceExecuteConnections(Connection::rollback);
         } else if (connectionTransaction.isLocalTransaction() && !connectionTransaction.isRollbackOnly()) {
-            forceExecuteTemplate.execute(cachedConnections.values(), Connection::commit);
+            forceExecuteConnections(Connection::commit);
         } else {
             connectionTransaction.commit();
         }
@@ -170,7 +175,7 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
      */
     public void rollback() throws SQLException {
         if (connectionTransaction.isLocalTransaction()) {
-            forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
+            forceExecuteConnections(Connection::rollback);
         } else {
             connectionTransaction.rollback();
         }
@@ -188,6 +193,14 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         }
     }
     
+    private void forceExecuteConnections(final ForceExecuteCallback<Connection> callback) throws SQLException {
+        if (cachedConnections.size() > 1 && contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.COMMIT_PARALLEL_ENABLED)) {
+            forceExecuteTemplate.execute(cachedConnections.values(), callback, contextManager.getExecutorEngine().getExecutorServiceManager().getExecutorService());
+        } else {
+            forceExecuteTemplate.execute(cachedConnections.values(), callback);
+        }
+    }
+    
     /**
      * Set savepoint.
      *
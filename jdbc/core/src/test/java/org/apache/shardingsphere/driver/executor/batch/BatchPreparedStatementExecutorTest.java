@@ -22,6 +22,9 @@ import org.apache.shardingsphere.driver.jdbc.context.JDBCContext;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -38,6 +41,8 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
 import org.apache.shardingsphere.traffic.rule.builder.DefaultTrafficRuleConfigurationBuilder;
 import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
@@ -57,6 +62,7 @@ import org.mockito.quality.Strictness;
 import javax.sql.DataSource;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -80,6 +86,8 @@ class BatchPreparedStatementExecutorTest {
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO t_order_0 (order_id) VALUES (?)";
+    
     private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithCPU();
     
     private BatchPreparedStatementExecutor executor;
@@ -111,6 +119,7 @@ class BatchPreparedStatementExecutorTest {
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(result.getMetaData().getDatabase("foo_db").getResourceMetaData().getStorageTypes())
                 .thenReturn(Collections.singletonMap("ds_0", TypedSPILoader.getService(DatabaseType.class, "H2")));
+        when(result.getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.BATCH_INSERT_VALUES_SIZE.getKey(), "2"))));
         ShardingSphereRuleMetaData databaseRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mockShardingRule()));
         when(result.getMetaData().getDatabase("foo_db").getRuleMetaData()).thenReturn(databaseRuleMetaData);
         return result;
@@ -191,6 +200,70 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 1)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_0", 2)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createExecutionUnit("ds_1", 3)));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0, 1, 1)));
+        assertThat(actual.get(1).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(actual.get(1).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap(), is(createAddBatchCallTimesMap(0, 0, 2, 1)));
+    }
+    
+    @Test
+    void assertExecuteBatchWithInsertValuesMerged() throws SQLException {
+        executor.addBatchForExecutionUnits(Collections.singletonList(createInsertExecutionUnit("ds_0", 1)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createInsertExecutionUnit("ds_1", 2)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createInsertExecutionUnit("ds_0", 3)));
+        executor.addBatchForExecutionUnits(Collections.singletonList(createInsertExecutionUnit("ds_0", 4)));
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class);
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        when(insertStatementContext.getTablesContext()).thenReturn(mock(TablesContext.class));
+        List<ExecutionUnit> actualExecutionUnits = new ArrayList<>(executor.getExecutionUnits(insertStatementContext));
+        assertThat(actualExecutionUnits.size(), is(3));
+        assertThat(actualExecutionUnits.get(0).getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnits.get(0).getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id) VALUES (?), (?)"));
+        assertThat(actualExecutionUnits.get(0).getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 3)));
+        assertThat(actualExecutionUnits.get(1).getDataSourceName(), is("ds_0"));
+        assertThat(actualExecutionUnits.get(1).getSqlUnit().getSql(), is(INSERT_SQL));
+        assertThat(actualExecutionUnits.get(1).getSqlUnit().getParameters(), is(Collections.<Object>singletonList(4)));
+        assertThat(actualExecutionUnits.get(2).getDataSourceName(), is("ds_1"));
+        assertThat(actualExecutionUnits.get(2).getSqlUnit().getSql(), is(INSERT_SQL));
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        PreparedStatement preparedStatement3 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{2});
+        when(preparedStatement2.executeBatch()).thenReturn(new int[]{1});
+        when(preparedStatement3.executeBatch()).thenReturn(new int[]{1});
+        List<JDBCExecutionUnit> jdbcExecutionUnits = Arrays.asList(new JDBCExecutionUnit(actualExecutionUnits.get(0), ConnectionMode.MEMORY_STRICTLY, preparedStatement1),
+                new JDBCExecutionUnit(actualExecutionUnits.get(1), ConnectionMode.MEMORY_STRICTLY, preparedStatement2),
+                new JDBCExecutionUnit(actualExecutionUnits.get(2), ConnectionMode.MEMORY_STRICTLY, preparedStatement3));
+        executor.init(new ExecutionGroupContext<>(new LinkedList<>(Collections.singletonList(new ExecutionGroup<>(jdbcExecutionUnits))), new ExecutionGroupReportContext("foo_db")));
+        assertThat(executor.getParameterSet(preparedStatement1), is(Collections.singletonList(Arrays.<Object>asList(1, 3))));
+        assertThat(executor.getParameterSet(preparedStatement2), is(Collections.singletonList(Collections.<Object>singletonList(4))));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1, 1}));
+    }
+    
+    private ExecutionUnit createInsertExecutionUnit(final String dataSourceName, final Object param) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(INSERT_SQL, new ArrayList<>(Collections.singletonList(param))));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final Object param) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new ArrayList<>(Collections.singletonList(param))));
+    }
+    
+    private Map<Integer, Integer> createAddBatchCallTimesMap(final int firstJDBCTimes, final int firstActualTimes, final int secondJDBCTimes, final int secondActualTimes) {
+        Map<Integer, Integer> result = new LinkedHashMap<>(2, 1);
+        result.put(firstJDBCTimes, firstActualTimes);
+        result.put(secondJDBCTimes, secondActualTimes);
+        return result;
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -201,19 +274,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor, new ExecutionGroupContext<>(executionGroups,
                 new ExecutionGroupReportContext("logic_db")));
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits"), executor, batchExecutionUnits);
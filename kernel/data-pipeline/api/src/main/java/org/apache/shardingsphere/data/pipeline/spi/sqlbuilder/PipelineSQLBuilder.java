@@ -190,4 +190,34 @@ public interface PipelineSQLBuilder extends TypedSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build chunk unique key query SQL.
+     * 
+     * <p>The chunk is the next rows ordered by unique key, parameters are unique key value of previous chunk (absent for first query) and chunk size.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery first query
+     * @return chunk unique key query SQL
+     */
+    String buildChunkUniqueKeyQuerySQL(String schemaName, String tableName, String uniqueKey, boolean firstQuery);
+    
+    /**
+     * Build chunk checksum SQL.
+     * 
+     * <p>The chunk is the rows in unique key range, parameters are unique key value of previous chunk (absent for first query) and max unique key value of the chunk.
+     * Result columns are records count and checksum of the chunk. Only aggregations are used, so the SQL could be executed on sharding table too.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @param firstQuery first query
+     * @return chunk checksum SQL
+     */
+    default Optional<String> buildChunkChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey, final boolean firstQuery) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.DataConsistencyCheckUtils;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineSQLException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedDataConsistencyCalculateTableException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineDatabaseTypeException;
+import org.apache.shardingsphere.data.pipeline.core.util.CloseUtils;
+import org.apache.shardingsphere.data.pipeline.core.util.DatabaseTypeUtils;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Chunk checksum match data consistency calculate algorithm.
+ * 
+ * <p>Splits table into chunks by unique key, checksum of every chunk is calculated by database, so only the unique keys and checksums are transferred and compared.
+ * Checksum of the chunk is queried by unique key range instead of limit, so it is correct on sharding table too.</p>
+ */
+@SPIDescription("Match checksum of records chunks calculated by database.")
+@Slf4j
+public final class ChunkChecksumMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = DatabaseTypeUtils.getTrunkAndBranchDatabaseTypes(new HashSet<>(Arrays.asList(
+            new MySQLDatabaseType().getType(), new PostgreSQLDatabaseType().getType(), new OpenGaussDatabaseType().getType())));
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private int chunkSize;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getChunkSize(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param) {
+        CalculationContext calculationContext = getOrCreateCalculationContext(param);
+        try {
+            Optional<DataConsistencyCalculatedResult> result = calculateChunk(param, calculationContext);
+            if (!result.isPresent()) {
+                calculationContext.close();
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            calculationContext.close();
+            if (ex instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex;
+            }
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param, final CalculationContext calculationContext) throws SQLException {
+        PipelineSQLBuilder sqlBuilder = getSQLBuilder(param);
+        Object previousUniqueKeyValue = calculationContext.getPreviousUniqueKeyValue();
+        Optional<Object> maxUniqueKeyValue = queryMaxUniqueKeyValue(param, calculationContext, sqlBuilder, previousUniqueKeyValue);
+        if (!maxUniqueKeyValue.isPresent()) {
+            return Optional.empty();
+        }
+        String sql = getChunkChecksumSQL(param, sqlBuilder, null == previousUniqueKeyValue);
+        try (
+                PreparedStatement preparedStatement = setCurrentStatement(calculationContext.getConnection().prepareStatement(sql));
+                ResultSet resultSet = executeQuery(preparedStatement, previousUniqueKeyValue, maxUniqueKeyValue.get())) {
+            if (isCanceling()) {
+                throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName());
+            }
+            int recordsCount = resultSet.next() ? resultSet.getInt(1) : 0;
+            calculationContext.setPreviousUniqueKeyValue(maxUniqueKeyValue.get());
+            return Optional.of(new CalculatedResult(previousUniqueKeyValue, maxUniqueKeyValue.get(), recordsCount, 0 == recordsCount ? null : resultSet.getString(2)));
+        }
+    }
+    
+    private Optional<Object> queryMaxUniqueKeyValue(final DataConsistencyCalculateParameter param, final CalculationContext calculationContext,
+                                                    final PipelineSQLBuilder sqlBuilder, final Object previousUniqueKeyValue) throws SQLException {
+        String sql = sqlBuilder.buildChunkUniqueKeyQuerySQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName(), null == previousUniqueKeyValue);
+        try (
+                PreparedStatement preparedStatement = setCurrentStatement(calculationContext.getConnection().prepareStatement(sql));
+                ResultSet resultSet = executeQuery(preparedStatement, previousUniqueKeyValue, chunkSize)) {
+            Object result = null;
+            while (resultSet.next()) {
+                if (isCanceling()) {
+                    throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName());
+                }
+                result = resultSet.getObject(1);
+            }
+            return Optional.ofNullable(result);
+        }
+    }
+    
+    private ResultSet executeQuery(final PreparedStatement preparedStatement, final Object previousUniqueKeyValue, final Object lastParameter) throws SQLException {
+        int parameterIndex = 1;
+        if (null != previousUniqueKeyValue) {
+            preparedStatement.setObject(parameterIndex++, previousUniqueKeyValue);
+        }
+        preparedStatement.setObject(parameterIndex, lastParameter);
+        return preparedStatement.executeQuery();
+    }
+    
+    private PipelineSQLBuilder getSQLBuilder(final DataConsistencyCalculateParameter param) {
+        ShardingSpherePreconditions.checkNotNull(param.getUniqueKey(), () -> new UnsupportedDataConsistencyCalculateTableException(getType(), param.getLogicTableName()));
+        ShardingSpherePreconditions.checkState(param.getDatabaseType().equals(param.getPeerDatabaseType()),
+                () -> new UnsupportedPipelineDatabaseTypeException(TypedSPILoader.getService(DatabaseType.class, param.getPeerDatabaseType())));
+        return PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, param.getDatabaseType());
+    }
+    
+    private String getChunkChecksumSQL(final DataConsistencyCalculateParameter param, final PipelineSQLBuilder sqlBuilder, final boolean firstQuery) {
+        Optional<String> result = sqlBuilder.buildChunkChecksumSQL(param.getSchemaName(), param.getLogicTableName(), param.getColumnNames(), param.getUniqueKey().getName(), firstQuery);
+        ShardingSpherePreconditions.checkState(result.isPresent(), () -> new UnsupportedPipelineDatabaseTypeException(TypedSPILoader.getService(DatabaseType.class, param.getDatabaseType())));
+        return result.get();
+    }
+    
+    private CalculationContext getOrCreateCalculationContext(final DataConsistencyCalculateParameter param) {
+        CalculationContext result = (CalculationContext) param.getCalculationContext();
+        if (null != result) {
+            return result;
+        }
+        try {
+            result = new CalculationContext(param.getDataSource().getConnection());
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+        result.setPreviousUniqueKeyValue(param.getTableCheckPosition());
+        param.setCalculationContext(result);
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNK_CHECKSUM_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CalculationContext implements AutoCloseable {
+        
+        private final Connection connection;
+        
+        @Setter
+        private volatile Object previousUniqueKeyValue;
+        
+        @Override
+        public void close() {
+            CloseUtils.closeQuietly(connection);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        private final Object previousUniqueKeyValue;
+        
+        @NonNull
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordsCount;
+        
+        private final String checksum;
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.of(maxUniqueKeyValue);
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculatedResult)) {
+                log.warn("CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (recordsCount != that.recordsCount || !isUniqueKeyValueEquals(maxUniqueKeyValue, that.maxUniqueKeyValue) || !Objects.equals(checksum, that.checksum)) {
+                log.warn("chunk checksum not match, uniqueKeyRange=({}, {}], recordCount1={}, recordCount2={}, maxUniqueKeyValue2={}, checksum1={}, checksum2={}",
+                        previousUniqueKeyValue, maxUniqueKeyValue, recordsCount, that.recordsCount, that.maxUniqueKeyValue, checksum, that.checksum);
+                return false;
+            }
+            return true;
+        }
+        
+        private boolean isUniqueKeyValueEquals(final Object one, final Object another) {
+            return one instanceof BigDecimal && another instanceof BigDecimal ? DataConsistencyCheckUtils.isBigDecimalEquals((BigDecimal) one, (BigDecimal) another) : Objects.equals(one, another);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(maxUniqueKeyValue, recordsCount, checksum);
+        }
+    }
+}
@@ -49,8 +49,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -200,34 +200,57 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        List<DataRecord> batchRecords = new ArrayList<>(dataRecords.size());
+        String batchUpdateSQL = null;
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            String updateSQL = buildUpdateSQL(each);
+            if (!updateSQL.equals(batchUpdateSQL) && !batchRecords.isEmpty()) {
+                executeBatchUpdate(connection, batchUpdateSQL, batchRecords);
+                batchRecords.clear();
+            }
+            batchUpdateSQL = updateSQL;
+            batchRecords.add(each);
+        }
+        if (!batchRecords.isEmpty()) {
+            executeBatchUpdate(connection, batchUpdateSQL, batchRecords);
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(record.getTableName());
-        List<Column> conditionColumns = RecordUtils.extractConditionColumns(record, shardingColumns);
-        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record);
-        String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(record.getTableName()), record, conditionColumns);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
+    private String buildUpdateSQL(final DataRecord record) {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(record, importerConfig.getShardingColumns(record.getTableName()));
+        return pipelineSqlBuilder.buildUpdateSQL(getSchemaName(record.getTableName()), record, conditionColumns);
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String updateSQL, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSQL)) {
             updateStatement = preparedStatement;
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                preparedStatement.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+            for (DataRecord each : dataRecords) {
+                setUpdateParameters(preparedStatement, each);
+                preparedStatement.addBatch();
             }
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
+            int[] updateCounts = preparedStatement.executeBatch();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                    log.warn("executeUpdate failed, updateCount={}, updateSql={}, record={}", updateCounts[i], updateSQL, dataRecords.get(i));
+                }
             }
         } finally {
             updateStatement = null;
         }
     }
     
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord record) throws SQLException {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(record, importerConfig.getShardingColumns(record.getTableName()));
+        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record);
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            preparedStatement.setObject(updatedColumns.size() + i + 1, (keyColumn.isUniqueKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
@@ -24,14 +24,20 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * Multiplex memory pipeline channel.
+ *
+ * <p>Records are acknowledged to callback in push order, only after all previously pushed records have been acknowledged by their channels.</p>
  */
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
@@ -39,15 +45,23 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final List<PipelineChannel> channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<String, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<Record> pendingAckRecords = new LinkedList<>();
+    
+    private final Map<Record, Integer> pendingAckCounts = new IdentityHashMap<>();
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        this.ackCallback = ackCallback;
+        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, this::onChannelAck)).collect(Collectors.toList());
     }
     
     @Override
     public void pushRecord(final Record record) {
+        addPendingAckRecord(record, FinishedRecord.class.equals(record.getClass()) ? channelNumber : 1);
         if (FinishedRecord.class.equals(record.getClass())) {
             for (int i = 0; i < channelNumber; i++) {
                 pushRecord(record, i);
@@ -66,6 +80,11 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         channel.pushRecord(record);
     }
     
+    private synchronized void addPendingAckRecord(final Record record, final int ackCount) {
+        pendingAckRecords.add(record);
+        pendingAckCounts.merge(record, ackCount, Integer::sum);
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         return findChannel().fetchRecords(batchSize, timeoutSeconds);
@@ -76,6 +95,21 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         findChannel().ack(records);
     }
     
+    private synchronized void onChannelAck(final List<Record> records) {
+        for (Record each : records) {
+            pendingAckCounts.computeIfPresent(each, (key, value) -> value - 1);
+        }
+        List<Record> ackedRecords = new ArrayList<>();
+        while (!pendingAckRecords.isEmpty() && 0 == pendingAckCounts.getOrDefault(pendingAckRecords.peek(), 0)) {
+            Record record = pendingAckRecords.poll();
+            pendingAckCounts.remove(record);
+            ackedRecords.add(record);
+        }
+        if (!ackedRecords.isEmpty()) {
+            ackCallback.onAck(ackedRecords);
+        }
+    }
+    
     private PipelineChannel findChannel() {
         String threadId = Long.toString(Thread.currentThread().getId());
         checkAssignment(threadId);
@@ -106,5 +140,9 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         for (PipelineChannel each : channels) {
             each.close();
         }
+        synchronized (this) {
+            pendingAckRecords.clear();
+            pendingAckCounts.clear();
+        }
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
@@ -26,10 +27,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Simple memory pipeline channel.
+ *
+ * <p>Fetching blocks on the bounded queue and returns as soon as batch size records are available or timeout is reached, without sleep polling.</p>
  */
+@Slf4j
 public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
     private final BlockingQueue<Record> queue;
@@ -51,18 +56,28 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     }
     
     @SneakyThrows(InterruptedException.class)
-    // TODO thread-safe?
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        queue.drainTo(result, batchSize);
+        while (result.size() < batchSize) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                break;
+            }
+            Record record = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (null == record) {
                 break;
             }
-            Thread.sleep(100L);
+            result.add(record);
+            queue.drainTo(result, batchSize - result.size());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Fetched {} records, wait time {} ms, remaining occupancy {}/{}",
+                    result.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), queue.size(), queue.size() + queue.remainingCapacity());
         }
-        queue.drainTo(result, batchSize);
         return result;
     }
     
@@ -210,4 +210,25 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(1) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildChunkUniqueKeyQuerySQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
+        String quotedUniqueKey = quote(uniqueKey);
+        return firstQuery
+                ? String.format("SELECT %s FROM %s ORDER BY %s ASC LIMIT ?", quotedUniqueKey, qualifiedTableName, quotedUniqueKey)
+                : String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC LIMIT ?", quotedUniqueKey, qualifiedTableName, quotedUniqueKey, quotedUniqueKey);
+    }
+    
+    /**
+     * Build chunk range condition, parameters are unique key value of previous chunk (absent for first query) and max unique key value of the chunk.
+     *
+     * @param uniqueKey unique key
+     * @param firstQuery first query
+     * @return chunk range condition
+     */
+    protected final String buildChunkRangeCondition(final String uniqueKey, final boolean firstQuery) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return firstQuery ? String.format("%s<=?", quotedUniqueKey) : String.format("%s>? AND %s<=?", quotedUniqueKey, quotedUniqueKey);
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedDataConsistencyCalculateTableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkChecksumMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private DataConsistencyCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @BeforeEach
+    void setUp() {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", uniqueKey, null);
+    }
+    
+    @Test
+    void assertCalculateSuccess() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        PreparedStatement firstUniqueKeyPreparedStatement = mockUniqueKeyPreparedStatement(1L, 2L);
+        when(connection.prepareStatement("SELECT id FROM foo_tbl")).thenReturn(firstUniqueKeyPreparedStatement);
+        PreparedStatement checksumPreparedStatement = mockChecksumPreparedStatement();
+        when(connection.prepareStatement("SELECT CHUNK_CHECKSUM(id,foo_col) FROM foo_tbl WHERE id<=?")).thenReturn(checksumPreparedStatement);
+        PreparedStatement secondUniqueKeyPreparedStatement = mockUniqueKeyPreparedStatement();
+        when(connection.prepareStatement("SELECT id FROM foo_tbl WHERE id>?")).thenReturn(secondUniqueKeyPreparedStatement);
+        ChunkChecksumMatchDataConsistencyCalculateAlgorithm algorithm = new ChunkChecksumMatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(createChunkSizeProperties());
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(parameter).iterator();
+        DataConsistencyCalculatedResult actualResult = actual.next();
+        assertThat(actualResult.getRecordsCount(), is(2));
+        assertThat(actualResult.getMaxUniqueKeyValue().orElse(null), is(2L));
+        assertFalse(actual.hasNext());
+        verify(firstUniqueKeyPreparedStatement).setObject(1, 2);
+        verify(checksumPreparedStatement).setObject(1, 2L);
+        verify(secondUniqueKeyPreparedStatement).setObject(1, 2L);
+        verify(secondUniqueKeyPreparedStatement).setObject(2, 2);
+        verify(connection).close();
+    }
+    
+    private Properties createChunkSizeProperties() {
+        Properties result = new Properties();
+        result.setProperty("chunk-size", "2");
+        return result;
+    }
+    
+    private PreparedStatement mockUniqueKeyPreparedStatement(final Object... uniqueKeyValues) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        if (0 == uniqueKeyValues.length) {
+            when(resultSet.next()).thenReturn(false);
+        } else {
+            when(resultSet.next()).thenReturn(true, true, false);
+            when(resultSet.getObject(1)).thenReturn(uniqueKeyValues[0], uniqueKeyValues[1]);
+        }
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    private PreparedStatement mockChecksumPreparedStatement() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(2);
+        when(resultSet.getString(2)).thenReturn("123");
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    @Test
+    void assertCalculateFailed() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        Iterator<DataConsistencyCalculatedResult> actual = new ChunkChecksumMatchDataConsistencyCalculateAlgorithm().calculate(parameter).iterator();
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, actual::hasNext);
+    }
+    
+    @Test
+    void assertCalculateWithoutUniqueKey() throws SQLException {
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        DataConsistencyCalculateParameter param = new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", null, null);
+        Iterator<DataConsistencyCalculatedResult> actual = new ChunkChecksumMatchDataConsistencyCalculateAlgorithm().calculate(param).iterator();
+        assertThrows(UnsupportedDataConsistencyCalculateTableException.class, actual::hasNext);
+    }
+    
+    @Test
+    void assertCalculatedResultEquals() {
+        assertThat(new CalculatedResult(null, 2L, 2, "123"), is(new CalculatedResult(null, 2L, 2, "123")));
+        assertThat(new CalculatedResult(null, 2L, 2, "123"), not(new CalculatedResult(null, 2L, 2, "456")));
+        assertThat(new CalculatedResult(null, 2L, 2, "123"), not(new CalculatedResult(null, 3L, 2, "123")));
+    }
+}
@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -57,6 +58,24 @@ class MultiplexMemoryPipelineChannelTest {
         }, countDataRecord(records), records);
     }
     
+    @Test
+    void assertAckCallbackInPushOrderAcrossChannels() {
+        Record[] records = new Record[101];
+        for (int i = 1; i <= 100; i++) {
+            DataRecord dataRecord = new DataRecord(new IntPosition(i), 1);
+            dataRecord.setTableName("t_order");
+            dataRecord.addColumn(new Column("order_id", i, true, true));
+            records[i - 1] = dataRecord;
+        }
+        records[100] = new FinishedRecord(new IntPosition(101));
+        AtomicInteger lastId = new AtomicInteger();
+        execute(ackRecords -> {
+            for (Record each : ackRecords) {
+                assertThat(((IntPosition) each.getPosition()).getId(), is(lastId.incrementAndGet()));
+            }
+        }, 100 + CHANNEL_NUMBER, records);
+    }
+    
     @Test
     void assertBroadcastFinishedRecord() {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
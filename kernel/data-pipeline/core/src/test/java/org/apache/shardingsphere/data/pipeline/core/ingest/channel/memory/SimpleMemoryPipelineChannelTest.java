@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SimpleMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsWhenBatchSizeReached() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10, mock(AckCallback.class));
+        for (int i = 0; i < 3; i++) {
+            channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        long startNanos = System.nanoTime();
+        List<Record> actual = channel.fetchRecords(2, 10);
+        assertThat(actual.size(), is(2));
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos) < 10L);
+        assertThat(channel.fetchRecords(2, 0).size(), is(1));
+    }
+    
+    @Test
+    void assertFetchRecordsWaitForPushedRecords() throws InterruptedException {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10, mock(AckCallback.class));
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 2; i++) {
+                channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+            }
+        });
+        producer.start();
+        assertThat(channel.fetchRecords(2, 10).size(), is(2));
+        producer.join();
+    }
+    
+    @Test
+    void assertFetchRecordsTimeout() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10, mock(AckCallback.class));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        assertThat(channel.fetchRecords(2, 1).size(), is(1));
+    }
+}
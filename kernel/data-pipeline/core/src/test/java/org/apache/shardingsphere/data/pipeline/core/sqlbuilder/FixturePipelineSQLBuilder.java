@@ -98,6 +98,16 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public String buildChunkUniqueKeyQuerySQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        return String.format("SELECT %s FROM %s%s", uniqueKey, tableName, firstQuery ? "" : String.format(" WHERE %s>?", uniqueKey));
+    }
+    
+    @Override
+    public Optional<String> buildChunkChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey, final boolean firstQuery) {
+        return Optional.of(String.format("SELECT CHUNK_CHECKSUM(%s) FROM %s WHERE %s%s<=?", String.join(",", columnNames), tableName, firstQuery ? "" : uniqueKey + ">? AND ", uniqueKey));
+    }
+    
     @Override
     public String buildNoUniqueKeyInventoryDumpSQL(final String schemaName, final String tableName) {
         return "";
@@ -23,8 +23,10 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -91,6 +93,14 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildChunkChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey, final boolean firstQuery) {
+        String quotedColumns = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        String nullFlags = columnNames.stream().map(each -> String.format("ISNULL(%s)", quote(each))).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT COUNT(1),SUM(CAST(CONV(SUBSTRING(MD5(CONCAT_WS('#',%s,CONCAT(%s))),1,16),16,10) AS UNSIGNED)) FROM %s WHERE %s",
+                quotedColumns, nullFlags, getQualifiedTableName(schemaName, tableName), buildChunkRangeCondition(uniqueKey, firstQuery)));
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = '%s'",
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +52,20 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildChunkUniqueKeyQuerySQL() {
+        assertThat(sqlBuilder.buildChunkUniqueKeyQuerySQL(null, "t2", "id", true), is("SELECT id FROM t2 ORDER BY id ASC LIMIT ?"));
+        assertThat(sqlBuilder.buildChunkUniqueKeyQuerySQL(null, "t2", "id", false), is("SELECT id FROM t2 WHERE id>? ORDER BY id ASC LIMIT ?"));
+    }
+    
+    @Test
+    void assertBuildChunkChecksumSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkChecksumSQL(null, "t2", Arrays.asList("id", "c1"), "id", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1),SUM(CAST(CONV(SUBSTRING(MD5(CONCAT_WS('#',id,c1,CONCAT(ISNULL(id),ISNULL(c1)))),1,16),16,10) AS UNSIGNED))"
+                + " FROM t2 WHERE id>? AND id<=?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
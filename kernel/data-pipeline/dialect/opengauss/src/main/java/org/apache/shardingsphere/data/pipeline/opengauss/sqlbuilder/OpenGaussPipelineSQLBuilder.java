@@ -90,6 +90,13 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildChunkChecksumSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey, final boolean firstQuery) {
+        String quotedColumns = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT COUNT(1),SUM(('x'||SUBSTR(MD5(CAST(ROW(%s) AS TEXT)),1,16))::BIT(64)::BIGINT) FROM %s WHERE %s",
+                quotedColumns, getQualifiedTableName(schemaName, tableName), buildChunkRangeCondition(uniqueKey, firstQuery)));
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String schemaName, final String tableName) {
         String qualifiedTableName = getQualifiedTableName(schemaName, tableName);
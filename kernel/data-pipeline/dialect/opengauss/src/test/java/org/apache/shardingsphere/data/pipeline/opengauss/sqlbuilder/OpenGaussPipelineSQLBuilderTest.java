@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -49,6 +50,13 @@ class OpenGaussPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertBuildChunkChecksumSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkChecksumSQL(null, "t1", Arrays.asList("id", "c0"), "id", false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1),SUM(('x'||SUBSTR(MD5(CAST(ROW(id,c0) AS TEXT)),1,16))::BIT(64)::BIGINT) FROM t1 WHERE id>? AND id<=?"));
+    }
+    
     @Test
     void assertQuoteKeyword() {
         String schemaName = "RECYCLEBIN";
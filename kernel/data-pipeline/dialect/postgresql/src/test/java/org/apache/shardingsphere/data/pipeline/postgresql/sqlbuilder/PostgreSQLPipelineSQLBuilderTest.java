@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Post
 import org.junit.jupiter.api.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -50,6 +51,13 @@ class PostgreSQLPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertBuildChunkChecksumSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkChecksumSQL("schema1", "t_order", Arrays.asList("order_id", "status"), "order_id", true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(1),SUM(('x'||SUBSTR(MD5(CAST(ROW(order_id,status) AS TEXT)),1,16))::BIT(64)::BIGINT) FROM schema1.t_order WHERE order_id<=?"));
+    }
+    
     @Test
     void assertQuoteKeyword() {
         String schemaName = "all";
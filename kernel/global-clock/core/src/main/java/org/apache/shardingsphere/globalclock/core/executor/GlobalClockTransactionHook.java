@@ -49,7 +49,7 @@ public final class GlobalClockTransactionHook extends TransactionHookAdapter {
     public void init(final Properties props) {
         enabled = Boolean.parseBoolean(props.getProperty("enabled"));
         if (enabled) {
-            globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")));
+            globalClockProvider = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", props.getProperty("type"), props.getProperty("provider")), props);
             globalClockTransactionExecutor = TypedSPILoader.getService(GlobalClockTransactionExecutor.class, props.getProperty("trunkType"));
         }
     }
@@ -56,6 +56,9 @@ public final class GlobalClockRule implements GlobalRule {
     
     private Properties getProps(final GlobalClockRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases) {
         Properties result = new Properties();
+        if (null != ruleConfig.getProps()) {
+            result.putAll(ruleConfig.getProps());
+        }
         result.setProperty("trunkType", DatabaseTypeEngine.getTrunkDatabaseTypeName(DatabaseTypeEngine.getStorageType(getDataSources(databases))));
         result.setProperty("enabled", String.valueOf(ruleConfig.isEnabled()));
         result.setProperty("type", ruleConfig.getType());
@@ -17,29 +17,140 @@
 
 package org.apache.shardingsphere.globalclock.type.tso.provider;
 
+import lombok.Getter;
+import org.apache.shardingsphere.globalclock.type.tso.provider.lease.LeasedTimestampGenerator;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
 import java.util.Properties;
 
 /**
  * Redis timestamp oracle provider.
+ * 
+ * <p>Timestamps are allocated by {@code INCRBY} on one redis key. If {@code lease-size} is greater than 1,
+ * timestamps are reserved in leases and handed out locally, which saves network round trips,
+ * but timestamps handed out by different compute nodes are no longer ordered by real time.</p>
+ * 
+ * <p>Re-init with changed properties publishes a new redis pool and timestamp generator first, and then closes the old ones.</p>
  */
-public final class RedisTSOProvider implements TSOProvider {
+public final class RedisTSOProvider implements TSOProvider, AutoCloseable {
+    
+    private static final String HOST_KEY = "host";
+    
+    private static final String PORT_KEY = "port";
+    
+    private static final String PASSWORD_KEY = "password";
+    
+    private static final String TIMEOUT_MILLISECONDS_KEY = "timeout-milliseconds";
+    
+    private static final String MAX_TOTAL_CONNECTIONS_KEY = "max-total-connections";
+    
+    private static final String TIMESTAMP_KEY = "timestamp-key";
+    
+    /**
+     * Count of timestamps reserved from redis once, greater than 1 breaks timestamp ordering across compute nodes.
+     */
+    private static final String LEASE_SIZE_KEY = "lease-size";
+    
+    private static final String DEFAULT_HOST = "127.0.0.1";
+    
+    private static final int DEFAULT_PORT = 6379;
+    
+    private static final int DEFAULT_TIMEOUT_MILLISECONDS = 2000;
+    
+    private static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 8;
+    
+    private static final String DEFAULT_TIMESTAMP_KEY = "shardingsphere:global_clock:tso";
+    
+    private static final int DEFAULT_LEASE_SIZE = 1;
+    
+    private volatile RedisTimestampOracle oracle;
     
     @Override
-    public void init(final Properties props) {
+    public synchronized void init(final Properties props) {
+        RedisTimestampOracle oldOracle = oracle;
+        if (null != oldOracle && oldOracle.getProps().equals(props)) {
+            return;
+        }
+        oracle = new RedisTimestampOracle(props);
+        if (null != oldOracle) {
+            oldOracle.close();
+        }
     }
     
     @Override
     public long getCurrentTimestamp() {
-        return 0;
+        return oracle.getCurrentTimestamp();
     }
     
     @Override
     public long getNextTimestamp() {
-        return 0;
+        return oracle.getNextTimestamp();
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != oracle) {
+            oracle.close();
+            oracle = null;
+        }
     }
     
     @Override
     public String getType() {
         return "TSO.redis";
     }
+    
+    private static final class RedisTimestampOracle implements AutoCloseable {
+        
+        @Getter
+        private final Properties props;
+        
+        private final JedisPool jedisPool;
+        
+        private final String timestampKey;
+        
+        private final LeasedTimestampGenerator leasedTimestampGenerator;
+        
+        RedisTimestampOracle(final Properties props) {
+            this.props = new Properties();
+            this.props.putAll(props);
+            JedisPoolConfig poolConfig = new JedisPoolConfig();
+            poolConfig.setMaxTotal(Integer.parseInt(props.getOrDefault(MAX_TOTAL_CONNECTIONS_KEY, DEFAULT_MAX_TOTAL_CONNECTIONS).toString()));
+            jedisPool = new JedisPool(poolConfig, props.getOrDefault(HOST_KEY, DEFAULT_HOST).toString(), Integer.parseInt(props.getOrDefault(PORT_KEY, DEFAULT_PORT).toString()),
+                    Integer.parseInt(props.getOrDefault(TIMEOUT_MILLISECONDS_KEY, DEFAULT_TIMEOUT_MILLISECONDS).toString()), props.getProperty(PASSWORD_KEY));
+            timestampKey = props.getOrDefault(TIMESTAMP_KEY, DEFAULT_TIMESTAMP_KEY).toString();
+            int leaseSize = Integer.parseInt(props.getOrDefault(LEASE_SIZE_KEY, DEFAULT_LEASE_SIZE).toString());
+            leasedTimestampGenerator = leaseSize > 1 ? new LeasedTimestampGenerator(this::allocateTimestamps, leaseSize) : null;
+        }
+        
+        long getCurrentTimestamp() {
+            if (null != leasedTimestampGenerator) {
+                return leasedTimestampGenerator.getCurrentTimestamp();
+            }
+            try (Jedis jedis = jedisPool.getResource()) {
+                String result = jedis.get(timestampKey);
+                return null == result ? 0L : Long.parseLong(result);
+            }
+        }
+        
+        long getNextTimestamp() {
+            return null == leasedTimestampGenerator ? allocateTimestamps(1) : leasedTimestampGenerator.getNextTimestamp();
+        }
+        
+        private long allocateTimestamps(final int count) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                return jedis.incrBy(timestampKey, count);
+            }
+        }
+        
+        @Override
+        public void close() {
+            if (null != leasedTimestampGenerator) {
+                leasedTimestampGenerator.close();
+            }
+            jedisPool.close();
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RedisTSOProviderTest {
+    
+    private static RedisServer redisServer;
+    
+    private static int port;
+    
+    @BeforeAll
+    static void setUp() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        redisServer = RedisServer.newRedisServer().bind("127.0.0.1").port(port).setting("save \"\"").build();
+        redisServer.start();
+    }
+    
+    @AfterAll
+    static void tearDown() throws IOException {
+        redisServer.stop();
+    }
+    
+    @Test
+    void assertGetNextTimestamp() {
+        try (RedisTSOProvider provider = createProvider("non_leased_tso", 1)) {
+            assertThat(provider.getCurrentTimestamp(), is(0L));
+            assertThat(provider.getNextTimestamp(), is(1L));
+            assertThat(provider.getNextTimestamp(), is(2L));
+            assertThat(provider.getCurrentTimestamp(), is(2L));
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestampWithLease() {
+        try (
+                RedisTSOProvider provider = createProvider("leased_tso", 10);
+                RedisTSOProvider otherProvider = createProvider("leased_tso", 1)) {
+            assertThat(provider.getCurrentTimestamp(), is(0L));
+            for (long i = 1L; i <= 5L; i++) {
+                assertThat(provider.getNextTimestamp(), is(i));
+            }
+            assertThat(provider.getCurrentTimestamp(), is(5L));
+            long otherTimestamp = otherProvider.getNextTimestamp();
+            for (long i = 6L; i <= 10L; i++) {
+                assertThat(provider.getNextTimestamp(), is(i));
+            }
+            assertThat(provider.getNextTimestamp() > otherTimestamp, is(true));
+        }
+    }
+    
+    @Test
+    void assertInitWithSameProperties() {
+        try (RedisTSOProvider provider = createProvider("same_props_tso", 10)) {
+            assertThat(provider.getNextTimestamp(), is(1L));
+            provider.init(createProperties("same_props_tso", 10));
+            assertThat(provider.getNextTimestamp(), is(2L));
+        }
+    }
+    
+    @Test
+    void assertInitWithChangedProperties() {
+        try (RedisTSOProvider provider = createProvider("old_props_tso", 10)) {
+            assertThat(provider.getNextTimestamp(), is(1L));
+            provider.init(createProperties("new_props_tso", 1));
+            assertThat(provider.getCurrentTimestamp(), is(0L));
+            assertThat(provider.getNextTimestamp(), is(1L));
+        }
+    }
+    
+    private RedisTSOProvider createProvider(final String timestampKey, final int leaseSize) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        result.init(createProperties(timestampKey, leaseSize));
+        return result;
+    }
+    
+    private Properties createProperties(final String timestampKey, final int leaseSize) {
+        return PropertiesBuilder.build(new Property("host", "127.0.0.1"), new Property("port", String.valueOf(port)),
+                new Property("timestamp-key", timestampKey), new Property("lease-size", String.valueOf(leaseSize)));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Leased timestamp generator.
+ * 
+ * <p>Timestamps are reserved from allocator in leases and handed out by a lock free local counter,
+ * the next lease is prefetched asynchronously when half of the current lease is consumed.</p>
+ */
+@Slf4j
+public final class LeasedTimestampGenerator implements AutoCloseable {
+    
+    private final TimestampAllocator allocator;
+    
+    private final int leaseSize;
+    
+    private final ExecutorService prefetchExecutor;
+    
+    private final AtomicReference<CompletableFuture<TimestampLease>> prefetchedLease = new AtomicReference<>();
+    
+    private volatile TimestampLease currentLease;
+    
+    public LeasedTimestampGenerator(final TimestampAllocator allocator, final int leaseSize) {
+        this.allocator = allocator;
+        this.leaseSize = leaseSize;
+        prefetchExecutor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("TSO-lease-prefetch-%d"));
+        currentLease = new TimestampLease(1L, 0L, leaseSize);
+    }
+    
+    /**
+     * Get current timestamp.
+     *
+     * @return last handed out timestamp
+     */
+    public long getCurrentTimestamp() {
+        TimestampLease lease = currentLease;
+        return Math.min(lease.nextTimestamp.get(), lease.lastTimestamp + 1L) - 1L;
+    }
+    
+    /**
+     * Get next timestamp.
+     *
+     * @return next timestamp
+     */
+    public long getNextTimestamp() {
+        while (true) {
+            TimestampLease lease = currentLease;
+            long result = lease.nextTimestamp.getAndIncrement();
+            if (result <= lease.lastTimestamp) {
+                if (result == lease.prefetchTimestamp) {
+                    prefetchedLease.set(CompletableFuture.supplyAsync(this::allocateLease, prefetchExecutor));
+                }
+                return result;
+            }
+            renewLease(lease);
+        }
+    }
+    
+    private synchronized void renewLease(final TimestampLease exhaustedLease) {
+        if (exhaustedLease != currentLease) {
+            return;
+        }
+        currentLease = takePrefetchedLease().filter(each -> each.firstTimestamp > exhaustedLease.lastTimestamp).orElseGet(this::allocateLease);
+    }
+    
+    private Optional<TimestampLease> takePrefetchedLease() {
+        CompletableFuture<TimestampLease> future = prefetchedLease.getAndSet(null);
+        if (null == future) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(future.join());
+        } catch (final CompletionException ex) {
+            log.warn("Prefetch timestamp lease failed, allocate timestamp lease synchronously.", ex);
+            return Optional.empty();
+        }
+    }
+    
+    private TimestampLease allocateLease() {
+        long lastTimestamp = allocator.allocate(leaseSize);
+        return new TimestampLease(lastTimestamp - leaseSize + 1L, lastTimestamp, leaseSize);
+    }
+    
+    @Override
+    public void close() {
+        prefetchExecutor.shutdownNow();
+    }
+    
+    private static final class TimestampLease {
+        
+        private final long firstTimestamp;
+        
+        private final long lastTimestamp;
+        
+        private final long prefetchTimestamp;
+        
+        private final AtomicLong nextTimestamp;
+        
+        TimestampLease(final long firstTimestamp, final long lastTimestamp, final int leaseSize) {
+            this.firstTimestamp = firstTimestamp;
+            this.lastTimestamp = lastTimestamp;
+            prefetchTimestamp = firstTimestamp + leaseSize / 2;
+            nextTimestamp = new AtomicLong(firstTimestamp);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.lease;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class LeasedTimestampGeneratorTest {
+    
+    private final AtomicLong remoteClock = new AtomicLong();
+    
+    private final AtomicInteger allocatedCount = new AtomicInteger();
+    
+    @Test
+    void assertGetCurrentTimestampBeforeLeased() {
+        try (LeasedTimestampGenerator generator = new LeasedTimestampGenerator(this::allocate, 10)) {
+            assertThat(generator.getCurrentTimestamp(), is(0L));
+            assertThat(allocatedCount.get(), is(0));
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestamp() {
+        try (LeasedTimestampGenerator generator = new LeasedTimestampGenerator(this::allocate, 100)) {
+            for (long i = 1L; i <= 1000L; i++) {
+                assertThat(generator.getNextTimestamp(), is(i));
+                assertThat(generator.getCurrentTimestamp(), is(i));
+            }
+            assertThat(allocatedCount.get(), lessThanOrEqualTo(11));
+            assertThat(remoteClock.get(), lessThanOrEqualTo(1100L));
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestampWhenPrefetchFailed() {
+        AtomicInteger invokedCount = new AtomicInteger();
+        TimestampAllocator allocator = count -> {
+            if (2 == invokedCount.incrementAndGet()) {
+                throw new IllegalStateException("Allocate failed.");
+            }
+            return allocate(count);
+        };
+        try (LeasedTimestampGenerator generator = new LeasedTimestampGenerator(allocator, 10)) {
+            long previous = 0L;
+            for (int i = 0; i < 30; i++) {
+                long actual = generator.getNextTimestamp();
+                assertThat(actual, greaterThan(previous));
+                previous = actual;
+            }
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestampWithOtherAllocators() {
+        try (LeasedTimestampGenerator generator = new LeasedTimestampGenerator(this::allocate, 10)) {
+            long previous = 0L;
+            for (int i = 0; i < 100; i++) {
+                allocate(7);
+                long actual = generator.getNextTimestamp();
+                assertThat(actual, greaterThan(previous));
+                previous = actual;
+            }
+        }
+    }
+    
+    @Test
+    void assertGetNextTimestampConcurrently() throws Exception {
+        int threadCount = 8;
+        int timestampCountPerThread = 20000;
+        Set<Long> timestamps = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Collection<Future<Boolean>> futures = new LinkedList<>();
+        try (LeasedTimestampGenerator generator = new LeasedTimestampGenerator(this::allocate, 64)) {
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return issueTimestamps(generator, timestampCountPerThread, timestamps);
+                }));
+            }
+            startLatch.countDown();
+            for (Future<Boolean> each : futures) {
+                assertThat(each.get(30L, TimeUnit.SECONDS), is(true));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertThat(timestamps.size(), is(threadCount * timestampCountPerThread));
+    }
+    
+    private boolean issueTimestamps(final LeasedTimestampGenerator generator, final int count, final Set<Long> timestamps) {
+        long previous = 0L;
+        for (int i = 0; i < count; i++) {
+            long actual = generator.getNextTimestamp();
+            if (actual <= previous || !timestamps.add(actual)) {
+                return false;
+            }
+            previous = actual;
+        }
+        return true;
+    }
+    
+    private long allocate(final int count) {
+        allocatedCount.incrementAndGet();
+        return remoteClock.addAndGet(count);
+    }
+}
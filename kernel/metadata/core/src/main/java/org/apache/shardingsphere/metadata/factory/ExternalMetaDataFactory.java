@@ -23,8 +23,11 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -62,26 +65,52 @@ public final class ExternalMetaDataFactory {
      */
     public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap,
                                                              final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        return create(databaseConfigMap, Collections.emptyMap(), props, instanceContext);
+    }
+    
+    /**
+     * Create databases meta data for db.
+     * 
+     * <p>Schemas of the database which are already loaded (e.g. persisted in governance center) are reused, so their tables are not loaded from data sources again.</p>
+     *
+     * @param databaseConfigMap database configuration map
+     * @param loadedSchemas loaded schemas, key is lower case database name
+     * @param props properties
+     * @param instanceContext instance context
+     * @return databases
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, ShardingSphereDatabase> create(final Map<String, DatabaseConfiguration> databaseConfigMap, final Map<String, Map<String, ShardingSphereSchema>> loadedSchemas,
+                                                             final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         DatabaseType protocolType = DatabaseTypeEngine.getProtocolType(databaseConfigMap, props);
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databaseConfigMap.size() + protocolType.getSystemDatabaseSchemaMap().size(), 1);
-        result.putAll(createGenericDatabases(databaseConfigMap, protocolType, props, instanceContext));
+        result.putAll(createGenericDatabases(databaseConfigMap, loadedSchemas, protocolType, props, instanceContext));
         result.putAll(createSystemDatabases(databaseConfigMap, protocolType));
         return result;
     }
     
-    private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap, final DatabaseType protocolType,
+    private static Map<String, ShardingSphereDatabase> createGenericDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap,
+                                                                              final Map<String, Map<String, ShardingSphereSchema>> loadedSchemas, final DatabaseType protocolType,
                                                                               final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(databaseConfigMap.size(), 1);
         for (Entry<String, DatabaseConfiguration> entry : databaseConfigMap.entrySet()) {
             String databaseName = entry.getKey();
             if (!entry.getValue().getDataSources().isEmpty() || !protocolType.getSystemSchemas().contains(databaseName)) {
-                Map<String, DatabaseType> storageTypes = DatabaseTypeEngine.getStorageTypes(entry.getKey(), entry.getValue());
-                result.put(databaseName.toLowerCase(), ShardingSphereDatabase.create(databaseName, protocolType, storageTypes, entry.getValue(), props, instanceContext));
+                Map<String, ShardingSphereSchema> schemas = loadedSchemas.getOrDefault(databaseName.toLowerCase(), Collections.emptyMap());
+                result.put(databaseName.toLowerCase(), createGenericDatabase(databaseName, entry.getValue(), schemas, protocolType, props, instanceContext));
             }
         }
         return result;
     }
     
+    private static ShardingSphereDatabase createGenericDatabase(final String databaseName, final DatabaseConfiguration databaseConfig, final Map<String, ShardingSphereSchema> loadedSchemas,
+                                                                final DatabaseType protocolType, final ConfigurationProperties props, final InstanceContext instanceContext) throws SQLException {
+        if (loadedSchemas.isEmpty()) {
+            return ShardingSphereDatabase.create(databaseName, protocolType, DatabaseTypeEngine.getStorageTypes(databaseName, databaseConfig), databaseConfig, props, instanceContext);
+        }
+        return ShardingSphereDatabase.create(databaseName, protocolType, databaseConfig, DatabaseRulesBuilder.build(databaseName, databaseConfig, instanceContext), loadedSchemas);
+    }
+    
     private static Map<String, ShardingSphereDatabase> createSystemDatabases(final Map<String, DatabaseConfiguration> databaseConfigMap, final DatabaseType protocolType) {
         Map<String, ShardingSphereDatabase> result = new HashMap<>(protocolType.getSystemDatabaseSchemaMap().size(), 1);
         for (String each : protocolType.getSystemDatabaseSchemaMap().keySet()) {
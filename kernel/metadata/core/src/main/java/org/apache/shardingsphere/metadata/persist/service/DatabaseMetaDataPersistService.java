@@ -150,7 +150,13 @@ public final class DatabaseMetaDataPersistService {
         return result;
     }
     
-    private Collection<String> loadAllSchemaNames(final String databaseName) {
+    /**
+     * Load all schema names.
+     *
+     * @param databaseName database name
+     * @return all schema names
+     */
+    public Collection<String> loadAllSchemaNames(final String databaseName) {
         return repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSchemasPath(databaseName));
     }
 }
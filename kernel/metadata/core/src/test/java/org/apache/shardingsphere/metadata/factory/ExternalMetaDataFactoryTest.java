@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDa
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
@@ -61,4 +62,13 @@ class ExternalMetaDataFactoryTest {
         assertTrue(actual.containsKey("foo_db"));
         assertTrue(actual.get("foo_db").getResourceMetaData().getDataSources().isEmpty());
     }
+    
+    @Test
+    void assertCreateDatabaseMapWithLoadedSchemas() throws SQLException {
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.emptyList());
+        Map<String, ShardingSphereDatabase> actual = ExternalMetaDataFactory.create(Collections.singletonMap("foo_db", databaseConfig),
+                Collections.singletonMap("foo_db", Collections.singletonMap("foo_schema", new ShardingSphereSchema())), new ConfigurationProperties(new Properties()), mock(InstanceContext.class));
+        assertThat(actual.get("foo_db").getSchemas().size(), is(1));
+        assertTrue(actual.get("foo_db").containsSchema("foo_schema"));
+    }
 }
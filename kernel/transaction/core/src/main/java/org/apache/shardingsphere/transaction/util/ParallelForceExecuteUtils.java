@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel force execute utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParallelForceExecuteUtils {
+    
+    /**
+     * Force execute targets in parallel.
+     *
+     * <p>The first target is executed in current thread, others are executed by executor service. Every target is executed even if others failed.</p>
+     *
+     * @param targets targets to be executed
+     * @param operation operation to be executed on every target
+     * @param executorService executor service
+     * @param <T> type of targets to be executed
+     * @return SQL exceptions thrown by targets, SQL exception thrown in executor service is returned as it is
+     */
+    public static <T> Collection<SQLException> execute(final Collection<T> targets, final ForceExecuteOperation<T> operation, final ExecutorService executorService) {
+        Collection<SQLException> result = new LinkedList<>();
+        if (targets.isEmpty()) {
+            return result;
+        }
+        Iterator<T> iterator = targets.iterator();
+        T firstTarget = iterator.next();
+        Collection<Future<?>> futures = new LinkedList<>();
+        while (iterator.hasNext()) {
+            T each = iterator.next();
+            futures.add(executorService.submit(() -> {
+                operation.execute(each);
+                return null;
+            }));
+        }
+        try {
+            operation.execute(firstTarget);
+        } catch (final SQLException ex) {
+            result.add(ex);
+        }
+        for (Future<?> each : futures) {
+            getException(each).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private static Optional<SQLException> getException(final Future<?> future) {
+        try {
+            future.get();
+            return Optional.empty();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.of(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            return Optional.of(ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause()));
+        }
+    }
+    
+    /**
+     * Force execute operation.
+     *
+     * @param <T> type of target to be executed
+     */
+    public interface ForceExecuteOperation<T> {
+        
+        /**
+         * Execute.
+         *
+         * @param target target to be executed
+         * @throws SQLException SQL exception
+         */
+        void execute(T target) throws SQLException;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.transaction.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ParallelForceExecuteUtilsTest {
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertExecuteWithoutTargets() {
+        assertTrue(ParallelForceExecuteUtils.execute(Collections.<Connection>emptyList(), Connection::commit, executorService).isEmpty());
+    }
+    
+    @Test
+    void assertExecuteWithFailedTargets() throws SQLException {
+        Connection firstConnection = mock(Connection.class);
+        Connection secondConnection = mock(Connection.class);
+        Connection thirdConnection = mock(Connection.class);
+        SQLException firstException = new SQLException("first");
+        SQLException secondException = new SQLException("second");
+        doThrow(firstException).when(firstConnection).commit();
+        doThrow(secondException).when(secondConnection).commit();
+        Collection<SQLException> actual = ParallelForceExecuteUtils.execute(Arrays.asList(firstConnection, secondConnection, thirdConnection), Connection::commit, executorService);
+        assertThat(actual.size(), is(2));
+        Iterator<SQLException> iterator = actual.iterator();
+        assertThat(iterator.next(), is(firstException));
+        assertThat(iterator.next(), is(secondException));
+        verify(thirdConnection).commit();
+    }
+    
+    @Test
+    void assertExecuteWithRuntimeException() throws SQLException {
+        Connection firstConnection = mock(Connection.class);
+        Connection secondConnection = mock(Connection.class);
+        doThrow(new IllegalStateException("failed")).when(secondConnection).commit();
+        Collection<SQLException> actual = ParallelForceExecuteUtils.execute(Arrays.asList(firstConnection, secondConnection), Connection::commit, executorService);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getCause(), instanceOf(IllegalStateException.class));
+        verify(firstConnection).commit();
+    }
+}
@@ -31,6 +31,8 @@ import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAResource;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,7 +40,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -101,4 +105,24 @@ class AtomikosTransactionManagerProviderTest {
         assertFalse(transactionManagerProvider.getTransactionManager().getForceShutdown());
         assertTrue(transactionManagerProvider.getTransactionManager().getStartupTransactionService());
     }
+    
+    @Test
+    void assertCommitSingleResourceWithOnePhase() throws Exception {
+        AtomikosTransactionManagerProvider actual = new AtomikosTransactionManagerProvider();
+        actual.init();
+        actual.registerRecoveryResource("ds_0", xaDataSource);
+        try {
+            XAResource xaResource = mock(XAResource.class);
+            TransactionManager transactionManager = actual.getTransactionManager();
+            transactionManager.begin();
+            actual.enlistResource(new SingleXAResource("ds_0", xaResource));
+            transactionManager.commit();
+            verify(xaResource, never()).prepare(any());
+            verify(xaResource).commit(any(), eq(true));
+            verify(xaResource, never()).commit(any(), eq(false));
+        } finally {
+            actual.removeRecoveryResource("ds_0", xaDataSource);
+            actual.close();
+        }
+    }
 }
@@ -87,9 +87,9 @@ public final class MetaDataContextsFactory {
         checkDataSourceStates(effectiveDatabaseConfigs, storageNodes, param.isForce());
         Collection<RuleConfiguration> globalRuleConfigs = persistService.getGlobalRuleService().load();
         ConfigurationProperties props = new ConfigurationProperties(persistService.getPropsService().load());
-        // TODO Distinguish load calls ExternalMetaDataFactory or InternalMetaDataFactory
-        Map<String, ShardingSphereDatabase> databases = ExternalMetaDataFactory.create(effectiveDatabaseConfigs, props, instanceContext);
-        databases.putAll(reloadDatabases(databases, persistService));
+        Map<String, Map<String, ShardingSphereSchema>> persistedSchemas = loadPersistedSchemas(effectiveDatabaseConfigs.keySet(), persistService);
+        Map<String, ShardingSphereDatabase> databases = ExternalMetaDataFactory.create(effectiveDatabaseConfigs, persistedSchemas, props, instanceContext);
+        databases.putAll(reloadDatabases(databases, persistedSchemas.keySet(), persistService));
         ShardingSphereRuleMetaData globalMetaData = new ShardingSphereRuleMetaData(GlobalRulesBuilder.buildRules(globalRuleConfigs, databases, props));
         return new MetaDataContexts(persistService, new ShardingSphereMetaData(databases, globalMetaData, props));
     }
@@ -128,13 +128,21 @@ public final class MetaDataContextsFactory {
         return result;
     }
     
-    private static Map<String, ShardingSphereDatabase> reloadDatabases(final Map<String, ShardingSphereDatabase> databases, final MetaDataPersistService persistService) {
+    private static Map<String, Map<String, ShardingSphereSchema>> loadPersistedSchemas(final Collection<String> databaseNames, final MetaDataPersistService persistService) {
+        return databaseNames.stream().map(String::toLowerCase).distinct().collect(Collectors.toMap(
+                each -> each, each -> persistService.getDatabaseMetaDataService().loadSchemas(each), (a, b) -> b, () -> new HashMap<>(databaseNames.size(), 1)));
+    }
+    
+    private static Map<String, ShardingSphereDatabase> reloadDatabases(final Map<String, ShardingSphereDatabase> databases, final Collection<String> loadedDatabaseNames,
+                                                                       final MetaDataPersistService persistService) {
         Map<String, ShardingSphereDatabase> result = new ConcurrentHashMap<>(databases.size(), 1);
-        databases.forEach((key, value) -> {
-            Map<String, ShardingSphereSchema> schemas = persistService.getDatabaseMetaDataService().loadSchemas(key);
-            result.put(key.toLowerCase(), new ShardingSphereDatabase(value.getName(),
-                    value.getProtocolType(), value.getResourceMetaData(), value.getRuleMetaData(), schemas.isEmpty() ? value.getSchemas() : schemas));
-        });
+        databases.entrySet().stream().filter(entry -> !loadedDatabaseNames.contains(entry.getKey()))
+                .forEach(entry -> result.put(entry.getKey().toLowerCase(), reloadDatabase(entry.getValue(), persistService.getDatabaseMetaDataService().loadSchemas(entry.getKey()))));
         return result;
     }
+    
+    private static ShardingSphereDatabase reloadDatabase(final ShardingSphereDatabase database, final Map<String, ShardingSphereSchema> schemas) {
+        return new ShardingSphereDatabase(database.getName(),
+                database.getProtocolType(), database.getResourceMetaData(), database.getRuleMetaData(), schemas.isEmpty() ? database.getSchemas() : schemas);
+    }
 }
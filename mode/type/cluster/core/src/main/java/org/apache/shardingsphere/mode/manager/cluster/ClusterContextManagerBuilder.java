@@ -34,6 +34,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.Con
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsFactory;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.metadata.persist.service.DatabaseMetaDataPersistService;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
 
@@ -81,8 +82,9 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     }
     
     private void persistMetaData(final MetaDataContexts metaDataContexts) {
-        metaDataContexts.getMetaData().getDatabases().values().forEach(each -> each.getSchemas()
-                .forEach((schemaName, schema) -> metaDataContexts.getPersistService().getDatabaseMetaDataService().persist(each.getName(), schemaName, schema)));
+        DatabaseMetaDataPersistService databaseMetaDataService = metaDataContexts.getPersistService().getDatabaseMetaDataService();
+        metaDataContexts.getMetaData().getDatabases().values().stream().filter(each -> databaseMetaDataService.loadAllSchemaNames(each.getName()).isEmpty())
+                .forEach(each -> each.getSchemas().forEach((schemaName, schema) -> databaseMetaDataService.persist(each.getName(), schemaName, schema)));
         metaDataContexts.getShardingSphereData().getDatabaseData().forEach((databaseName, databaseData) -> databaseData.getSchemaData().forEach((schemaName, schemaData) -> metaDataContexts
                 .getPersistService().getShardingSphereDataPersistService().persist(databaseName, schemaName, schemaData, metaDataContexts.getMetaData().getDatabases())));
     }
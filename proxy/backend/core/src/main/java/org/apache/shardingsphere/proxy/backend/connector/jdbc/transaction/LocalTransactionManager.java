@@ -18,14 +18,20 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.transaction.ConnectionSavepointManager;
+import org.apache.shardingsphere.transaction.util.ParallelForceExecuteUtils;
+import org.apache.shardingsphere.transaction.util.ParallelForceExecuteUtils.ForceExecuteOperation;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Local transaction manager.
@@ -64,17 +70,7 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> commitConnections() {
-        Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
-            try {
-                each.commit();
-            } catch (final SQLException ex) {
-                result.add(ex);
-            } finally {
-                ConnectionSavepointManager.getInstance().transactionFinished(each);
-            }
-        }
-        return result;
+        return executeConnections(Connection::commit);
     }
     
     /**
@@ -90,19 +86,38 @@ public final class LocalTransactionManager {
     }
     
     private Collection<SQLException> rollbackConnections() {
+        return executeConnections(Connection::rollback);
+    }
+    
+    private Collection<SQLException> executeConnections(final ForceExecuteOperation<Connection> operation) {
+        Collection<Connection> connections = connection.getCachedConnections().values();
+        if (connections.size() > 1 && isCommitParallelEnabled()) {
+            ExecutorService executorService = BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getExecutorService();
+            return ParallelForceExecuteUtils.execute(connections, each -> executeConnection(each, operation), executorService);
+        }
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connections) {
             try {
-                each.rollback();
+                executeConnection(each, operation);
             } catch (final SQLException ex) {
                 result.add(ex);
-            } finally {
-                ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
         }
         return result;
     }
     
+    private boolean isCommitParallelEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.COMMIT_PARALLEL_ENABLED);
+    }
+    
+    private void executeConnection(final Connection target, final ForceExecuteOperation<Connection> operation) throws SQLException {
+        try {
+            operation.execute(target);
+        } finally {
+            ConnectionSavepointManager.getInstance().transactionFinished(target);
+        }
+    }
+    
     private void throwSQLExceptionIfNecessary(final Collection<SQLException> exceptions) throws SQLException {
         if (exceptions.isEmpty()) {
             return;
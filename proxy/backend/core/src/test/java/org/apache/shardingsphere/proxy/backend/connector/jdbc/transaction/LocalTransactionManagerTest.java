@@ -19,9 +19,16 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,10 +42,16 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
+@ExtendWith({MockitoExtension.class, AutoMockExtension.class})
+@StaticMockSettings(ProxyContext.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class LocalTransactionManagerTest {
     
@@ -86,6 +99,22 @@ class LocalTransactionManagerTest {
         verify(connection).commit();
     }
     
+    @Test
+    void assertCommitInParallel() throws SQLException {
+        Connection anotherConnection = mock(Connection.class);
+        Multimap<String, Connection> cachedConnections = HashMultimap.create();
+        cachedConnections.put("ds1", connection);
+        cachedConnections.put("ds2", anotherConnection);
+        when(backendConnection.getCachedConnections()).thenReturn(cachedConnections);
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.COMMIT_PARALLEL_ENABLED.getKey(), Boolean.TRUE.toString())));
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        SQLException expected = new SQLException("commit failed");
+        doThrow(expected).when(anotherConnection).commit();
+        assertThat(assertThrows(SQLException.class, () -> localTransactionManager.commit()), is(expected));
+        verify(connection).commit();
+        verify(anotherConnection).commit();
+    }
+    
     @Test
     void assertRollback() throws SQLException {
         localTransactionManager.rollback();
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.netty.FrontendFlushHandler;
+
+/**
+ * Query data flusher.
+ *
+ * <p>Writes query data packets to client and flushes them every {@link ConfigurationPropertyKey#PROXY_FRONTEND_FLUSH_THRESHOLD} records by default.
+ * If {@link ConfigurationPropertyKey#PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD} is configured, flushing by bytes is left to {@link FrontendFlushHandler} instead.</p>
+ */
+public final class QueryDataFlusher {
+    
+    private final ChannelHandlerContext context;
+    
+    private final BackendConnection backendConnection;
+    
+    private final int flushThreshold;
+    
+    private final boolean flushByRecords;
+    
+    private int flushCount;
+    
+    public QueryDataFlusher(final ChannelHandlerContext context, final BackendConnection backendConnection) {
+        this.context = context;
+        this.backendConnection = backendConnection;
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        flushByRecords = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD) <= 0;
+    }
+    
+    /**
+     * Write query data packet, wait for channel writable before writing and flush if necessary after writing.
+     *
+     * @param packet query data packet
+     */
+    public void write(final DatabasePacket<?> packet) {
+        flushCount++;
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            context.flush();
+            backendConnection.getResourceLock().doAwait();
+        }
+        context.write(packet);
+        if (flushByRecords && flushThreshold == flushCount) {
+            context.flush();
+            flushCount = 0;
+        }
+    }
+}
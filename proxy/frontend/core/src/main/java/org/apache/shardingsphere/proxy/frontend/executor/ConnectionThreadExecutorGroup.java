@@ -19,11 +19,14 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -57,11 +60,29 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, ExecutorThreadType.PLATFORM);
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    /**
+     * Register connection with thread type.
+     *
+     * @param connectionId connection id
+     * @param threadType thread type, virtual thread keeps the same thread for connection as platform thread does
+     */
+    public void register(final int connectionId, final ExecutorThreadType threadType) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, threadType));
+    }
+    
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final ExecutorThreadType threadType) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory threadFactory = ExecutorThreadType.VIRTUAL == threadType && ExecutorThreadFactoryBuilder.isVirtualThreadSupported()
+                ? ExecutorThreadFactoryBuilder.build(threadName, threadType)
+                : Thread::new;
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread result = threadFactory.newThread(runnable);
+            result.setName(threadName);
+            return result;
+        });
     }
     
     /**
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frontend flush handler.
+ *
+ * <p>Flushes encoded packets once the bytes written since last flush reach flush bytes threshold,
+ * or once flush interval elapsed since the first packet written after last flush.
+ * It should be placed in front of packet codec, so that encoded bytes are counted on event loop when they are written.</p>
+ */
+@RequiredArgsConstructor
+public final class FrontendFlushHandler extends ChannelOutboundHandlerAdapter {
+    
+    private final int flushBytesThreshold;
+    
+    private final long flushIntervalMillis;
+    
+    private long pendingBytes;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (msg instanceof ByteBuf) {
+            pendingBytes += ((ByteBuf) msg).readableBytes();
+        }
+        ctx.write(msg, promise);
+        if (flushBytesThreshold > 0 && pendingBytes >= flushBytesThreshold) {
+            flush(ctx);
+            return;
+        }
+        if (flushIntervalMillis > 0L && null == scheduledFlush) {
+            scheduledFlush = ctx.executor().schedule(() -> flush(ctx), flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext ctx) {
+        doFlush(ctx, pendingBytes);
+    }
+    
+    private void doFlush(final ChannelHandlerContext ctx, final long flushedBytes) {
+        pendingBytes = 0L;
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        ctx.flush();
+    }
+}
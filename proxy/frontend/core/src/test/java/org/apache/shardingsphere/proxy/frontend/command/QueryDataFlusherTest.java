@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.connector.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class QueryDataFlusherTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private Channel channel;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(true);
+    }
+    
+    @Test
+    void assertWriteWithRecordsThreshold() {
+        mockProperties(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "2"));
+        QueryDataFlusher flusher = new QueryDataFlusher(context, backendConnection);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        verify(context, never()).flush();
+        flusher.write(packet);
+        verify(context).flush();
+        flusher.write(packet);
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+    }
+    
+    @Test
+    void assertWriteWithBytesThreshold() {
+        mockProperties(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "1"),
+                new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "10"));
+        QueryDataFlusher flusher = new QueryDataFlusher(context, backendConnection);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        flusher.write(packet);
+        verify(context, times(2)).write(packet);
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertWriteWithUnwritableChannel() {
+        mockProperties();
+        when(channel.isWritable()).thenReturn(false, true);
+        when(channel.isActive()).thenReturn(true);
+        QueryDataFlusher flusher = new QueryDataFlusher(context, backendConnection);
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        flusher.write(packet);
+        verify(backendConnection.getResourceLock()).doAwait();
+        verify(context).flush();
+        verify(context).write(packet);
+    }
+    
+    private void mockProperties(final Property... properties) {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(properties)));
+    }
+}
@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.config.props.ExecutorThreadType;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -39,4 +44,21 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    void assertThreadNameWithPlatformThread() throws ExecutionException, InterruptedException {
+        assertThreadName(3, ExecutorThreadType.PLATFORM);
+    }
+    
+    @Test
+    void assertThreadNameWithVirtualThread() throws ExecutionException, InterruptedException {
+        assertThreadName(4, ExecutorThreadType.VIRTUAL);
+    }
+    
+    private void assertThreadName(final int connectionId, final ExecutorThreadType threadType) throws ExecutionException, InterruptedException {
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, threadType);
+        String actual = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get();
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        assertThat(actual, is(String.format("Connection-%d-ThreadExecutor", connectionId)));
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FrontendFlushHandlerTest {
+    
+    @Test
+    void assertFlushWithBytesThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(10, 0L));
+        channel.write(createByteBuf(6));
+        assertThat(channel.readOutbound(), nullValue());
+        channel.write(createByteBuf(6));
+        assertThat(((ByteBuf) channel.readOutbound()).readableBytes(), is(6));
+        assertThat(((ByteBuf) channel.readOutbound()).readableBytes(), is(6));
+        channel.write(createByteBuf(6));
+        assertThat(channel.readOutbound(), nullValue());
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertFlushWithInterval() throws InterruptedException {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(0, 10L));
+        channel.write(createByteBuf(6));
+        assertThat(channel.readOutbound(), nullValue());
+        TimeUnit.MILLISECONDS.sleep(20L);
+        channel.runPendingTasks();
+        assertThat(((ByteBuf) channel.readOutbound()).readableBytes(), is(6));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertFlushExplicitly() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(10, 10L));
+        channel.writeAndFlush(createByteBuf(6));
+        assertThat(((ByteBuf) channel.readOutbound()).readableBytes(), is(6));
+        channel.write(createByteBuf(6));
+        assertThat(channel.readOutbound(), nullValue());
+        channel.finishAndReleaseAll();
+    }
+    
+    private ByteBuf createByteBuf(final int length) {
+        return Unpooled.wrappedBuffer(new byte[length]);
+    }
+}
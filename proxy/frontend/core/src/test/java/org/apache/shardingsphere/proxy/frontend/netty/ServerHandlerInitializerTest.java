@@ -21,30 +21,61 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.test.fixture.infra.database.type.MockedDatabaseType;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.ConstructionMockSettings;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
 @ConstructionMockSettings(FrontendChannelInboundHandler.class)
 class ServerHandlerInitializerTest {
     
     @Test
     void assertInitChannel() {
-        SocketChannel channel = mock(SocketChannel.class);
-        ChannelPipeline pipeline = mock(ChannelPipeline.class);
-        when(channel.pipeline()).thenReturn(pipeline);
-        new ServerHandlerInitializer(new MockedDatabaseType()).initChannel(channel);
+        mockProperties();
+        ChannelPipeline pipeline = initChannel();
         verify(pipeline).addLast(any(ChannelAttrInitializer.class));
+        verify(pipeline, never()).addLast(any(FrontendFlushHandler.class));
         verify(pipeline).addLast(any(PacketCodec.class));
         verify(pipeline).addLast(any(FrontendChannelLimitationInboundHandler.class));
         verify(pipeline).addLast(any(FrontendChannelInboundHandler.class));
     }
+    
+    @Test
+    void assertInitChannelWithFlushBytesThreshold() {
+        mockProperties(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "1024"));
+        verify(initChannel()).addLast(any(FrontendFlushHandler.class));
+    }
+    
+    @Test
+    void assertInitChannelWithFlushInterval() {
+        mockProperties(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), "10"));
+        verify(initChannel()).addLast(any(FrontendFlushHandler.class));
+    }
+    
+    private ChannelPipeline initChannel() {
+        SocketChannel channel = mock(SocketChannel.class);
+        ChannelPipeline result = mock(ChannelPipeline.class);
+        when(channel.pipeline()).thenReturn(result);
+        new ServerHandlerInitializer(new MockedDatabaseType()).initChannel(channel);
+        return result;
+    }
+    
+    private void mockProperties(final Property... properties) {
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(properties)));
+    }
 }
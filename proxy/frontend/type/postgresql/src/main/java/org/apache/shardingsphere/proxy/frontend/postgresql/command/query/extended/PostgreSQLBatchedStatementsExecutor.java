@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import com.google.common.collect.Lists;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
@@ -31,6 +32,8 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.MultiValuesInsertSQLBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -53,6 +56,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -61,6 +65,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -151,18 +156,46 @@ public final class PostgreSQLBatchedStatementsExecutor {
                 metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
                 connectionSession.getBackendConnection(), (JDBCBackendStatement) connectionSession.getStatementManager(),
                 new StatementOption(false), rules, metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData().getStorageTypes());
-        executionGroupContext = prepareEngine.prepare(anyExecutionContext.getRouteContext(), executionUnitParams.keySet(),
+        Map<ExecutionUnit, List<List<Object>>> batchedExecutionUnitParams = mergeInsertValues();
+        executionGroupContext = prepareEngine.prepare(anyExecutionContext.getRouteContext(), batchedExecutionUnitParams.keySet(),
                 new ExecutionGroupReportContext(connectionSession.getDatabaseName(), connectionSession.getGrantee(), connectionSession.getExecutionId()));
         for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit each : eachGroup.getInputs()) {
-                prepareJDBCExecutionUnit(each);
+                prepareJDBCExecutionUnit(each, batchedExecutionUnitParams);
             }
         }
     }
     
-    private void prepareJDBCExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit) throws SQLException {
+    private Map<ExecutionUnit, List<List<Object>>> mergeInsertValues() {
+        int batchInsertValuesSize = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_VALUES_SIZE);
+        if (batchInsertValuesSize <= 1) {
+            return executionUnitParams;
+        }
+        Map<ExecutionUnit, List<List<Object>>> result = new HashMap<>(executionUnitParams.size(), 1F);
+        for (Entry<ExecutionUnit, List<List<Object>>> entry : executionUnitParams.entrySet()) {
+            Optional<MultiValuesInsertSQLBuilder> sqlBuilder = MultiValuesInsertSQLBuilder.newInstance(preparedStatement.getSqlStatementContext(), entry.getKey().getSqlUnit().getSql());
+            if (sqlBuilder.isPresent() && entry.getValue().get(0).size() == sqlBuilder.get().getParameterCount()) {
+                mergeInsertValues(entry.getKey(), entry.getValue(), sqlBuilder.get(), batchInsertValuesSize, result);
+            } else {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private void mergeInsertValues(final ExecutionUnit executionUnit, final List<List<Object>> rows, final MultiValuesInsertSQLBuilder sqlBuilder, final int batchInsertValuesSize,
+                                   final Map<ExecutionUnit, List<List<Object>>> mergedExecutionUnitParams) {
+        for (List<List<Object>> each : Lists.partition(rows, batchInsertValuesSize)) {
+            List<Object> params = new ArrayList<>(each.size() * sqlBuilder.getParameterCount());
+            each.forEach(params::addAll);
+            SQLUnit sqlUnit = new SQLUnit(sqlBuilder.build(each.size()), params, executionUnit.getSqlUnit().getTableRouteMappers());
+            mergedExecutionUnitParams.computeIfAbsent(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), unused -> new LinkedList<>()).add(params);
+        }
+    }
+    
+    private void prepareJDBCExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit, final Map<ExecutionUnit, List<List<Object>>> batchedExecutionUnitParams) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) jdbcExecutionUnit.getStorageResource();
-        for (List<Object> eachGroupParam : executionUnitParams.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList())) {
+        for (List<Object> eachGroupParam : batchedExecutionUnitParams.getOrDefault(jdbcExecutionUnit.getExecutionUnit(), Collections.emptyList())) {
             ListIterator<Object> params = eachGroupParam.listIterator();
             while (params.hasNext()) {
                 int paramIndex = params.nextIndex() + 1;